@@ -5,18 +5,11 @@
  */
 package it.pagopa.swclient.mil.azureservices.identity.client.workload;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-
 import org.eclipse.microprofile.config.ConfigProvider;
 
-import io.quarkus.logging.Log;
 import io.quarkus.rest.client.reactive.ClientFormParam;
 import io.smallrye.mutiny.Uni;
 import it.pagopa.swclient.mil.azureservices.identity.bean.AccessToken;
-import jakarta.enterprise.inject.spi.DeploymentException;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.FormParam;
 import jakarta.ws.rs.POST;
@@ -54,23 +47,18 @@ public interface AzureWorkloadIdentityRestClient {
 	 * <p>
 	 * Retrieve the client assertion from Azure Federated TokenFile.
 	 * </p>
+	 * <p>
+	 * The client assertion is cached in memory until it is going to expire.
+	 * </p>
 	 * 
 	 * @param headerName Header to set.
 	 * @return Value to use to set header.
 	 */
 	default String getClientAssertion(String headerName) {
-		try {
-			return new String(
-				Files.readAllBytes(
-					Paths.get(
-						ConfigProvider.getConfig()
-							.getValue(
-								"AZURE_FEDERATED_TOKEN_FILE",
-								String.class))),
-				StandardCharsets.UTF_8);
-		} catch (IOException e) {
-			Log.errorf(e, "Error reading Azure federated token file");
-			throw new DeploymentException("Error reading Azure federated token file", e);
-		}
+		return ClientAssertionCache.get(
+			ConfigProvider.getConfig()
+				.getValue(
+					"AZURE_FEDERATED_TOKEN_FILE",
+					String.class));
 	}
 }
@@ -0,0 +1,228 @@
+/*
+ * ClientAssertionCache.java
+ *
+ * 17 ott 2026
+ */
+package it.pagopa.swclient.mil.azureservices.identity.client.workload;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+/**
+ * <p>
+ * In-memory cache of the client assertions read from Azure Federated Token File.
+ * </p>
+ * <p>
+ * The assertion is a JWT, so it is kept in memory until its {@code exp}: when it is going to expire,
+ * the file is reloaded asynchronously by means of the Mutiny worker pool, so that the retrieving of
+ * access tokens doesn't do any blocking I/O. The file is read synchronously only if there isn't a
+ * valid assertion in the cache. If the file content isn't a JWT with {@code exp}, it isn't cached at
+ * all.
+ * </p>
+ * 
+ * @author Antonio Tarricone
+ */
+final class ClientAssertionCache {
+	/**
+	 * <p>
+	 * Seconds before the expiration of the assertion when the reloading of the file starts.
+	 * </p>
+	 */
+	static final long RELOAD_MARGIN = 300;
+
+	/**
+	 * <p>
+	 * Minimum seconds between two reloadings of the file.
+	 * </p>
+	 */
+	static final long RELOAD_INTERVAL = 10;
+
+	/**
+	 * <p>
+	 * Jackson object mapper to parse the payload of the assertion.
+	 * </p>
+	 */
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	/**
+	 * <p>
+	 * Cached assertions. The key is the path of the file.
+	 * </p>
+	 */
+	private static final Map<String, Assertion> CACHE = new ConcurrentHashMap<>();
+
+	/**
+	 * <p>
+	 * Number of readings of the files.
+	 * </p>
+	 */
+	private static final LongAdder READS = new LongAdder();
+
+	/**
+	 * <p>
+	 * This class has static methods only.
+	 * </p>
+	 */
+	private ClientAssertionCache() {
+		// This class has static methods only.
+	}
+
+	/**
+	 * <p>
+	 * Returns the client assertion stored in the given file, looking in the cache for a valid one.
+	 * </p>
+	 * 
+	 * @param path Path of Azure Federated Token File.
+	 * @return The client assertion.
+	 */
+	static String get(String path) {
+		long now = System.currentTimeMillis() / 1000;
+		Assertion assertion = CACHE.get(path);
+		if (assertion == null || assertion.exp() <= now) {
+			Log.debug("There's no cached client assertion or it is expired");
+			return load(path).value();
+		}
+
+		long nextReload = assertion.nextReload().get();
+		if (nextReload <= now && assertion.nextReload().compareAndSet(nextReload, now + RELOAD_INTERVAL)) {
+			Log.debug("Cached client assertion is going to expire: reload it in background");
+			Infrastructure.getDefaultWorkerPool().execute(() -> reload(path));
+		}
+
+		return assertion.value();
+	}
+
+	/**
+	 * <p>
+	 * Clears the cache.
+	 * </p>
+	 */
+	static void clear() {
+		CACHE.clear();
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of readings of the files.
+	 * </p>
+	 * 
+	 * @return The number of readings of the files.
+	 */
+	static long getReads() {
+		return READS.sum();
+	}
+
+	/**
+	 * <p>
+	 * Reads the client assertion from the given file and stores it in the cache.
+	 * </p>
+	 * <p>
+	 * When an assertion is already cached, the next reloading is scheduled
+	 * {@value #RELOAD_INTERVAL} seconds from now at least, so the file is read at most once every
+	 * interval while it isn't rotated.
+	 * </p>
+	 * 
+	 * @param path Path of Azure Federated Token File.
+	 * @return {@link Assertion}
+	 */
+	private static Assertion load(String path) {
+		String value = read(path);
+		long exp = getExp(value);
+		long nextReload = exp - RELOAD_MARGIN;
+		if (CACHE.containsKey(path)) {
+			/*
+			 * If the file hasn't been rotated yet, the assertion is still going to expire: the next
+			 * reloading must wait for the interval anyway.
+			 */
+			nextReload = Math.max(nextReload, System.currentTimeMillis() / 1000 + RELOAD_INTERVAL);
+		}
+		Assertion assertion = new Assertion(value, exp, new AtomicLong(nextReload));
+		if (exp > 0) {
+			CACHE.put(path, assertion);
+		} else {
+			CACHE.remove(path);
+		}
+		return assertion;
+	}
+
+	/**
+	 * <p>
+	 * Reloads the client assertion from the given file in background.
+	 * </p>
+	 * 
+	 * @param path Path of Azure Federated Token File.
+	 */
+	private static void reload(String path) {
+		try {
+			load(path);
+		} catch (DeploymentException e) {
+			Log.warn("Cached client assertion will be used until its expiration");
+		}
+	}
+
+	/**
+	 * <p>
+	 * Reads the content of the given file.
+	 * </p>
+	 * 
+	 * @param path Path of Azure Federated Token File.
+	 * @return The content of the file.
+	 */
+	private static String read(String path) {
+		READS.increment();
+		try {
+			return new String(Files.readAllBytes(Paths.get(path)), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			Log.errorf(e, "Error reading Azure federated token file");
+			throw new DeploymentException("Error reading Azure federated token file", e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns the {@code exp} claim of the given JWT.
+	 * </p>
+	 * 
+	 * @param jwt The JWT.
+	 * @return The {@code exp} claim or 0 if it isn't a JWT with {@code exp}.
+	 */
+	static long getExp(String jwt) {
+		String[] parts = jwt.trim().split("\\.");
+		if (parts.length != 3) {
+			return 0;
+		}
+		try {
+			return MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1]))
+				.path("exp")
+				.asLong(0);
+		} catch (IllegalArgumentException | IOException e) {
+			Log.debug("Client assertion isn't a valid JWT");
+			return 0;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Cached client assertion.
+	 * </p>
+	 * 
+	 * @param value      The client assertion.
+	 * @param exp        Unix epoch in seconds of expiration of the client assertion.
+	 * @param nextReload Unix epoch in seconds after which the file will be reloaded.
+	 */
+	private record Assertion(String value, long exp, AtomicLong nextReload) {
+	}
+}
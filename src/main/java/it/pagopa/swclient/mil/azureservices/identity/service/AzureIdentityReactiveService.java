@@ -5,20 +5,25 @@
  */
 package it.pagopa.swclient.mil.azureservices.identity.service;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import io.quarkus.logging.Log;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
 import it.pagopa.swclient.mil.azureservices.identity.bean.AccessToken;
 import it.pagopa.swclient.mil.azureservices.identity.client.AzureIdentityClient;
 import it.pagopa.swclient.mil.azureservices.identity.client.systemmanaged.AzureSystemManagedIdentityClient;
 import it.pagopa.swclient.mil.azureservices.identity.client.usermanaged.AzureUserManagedIdentityClient;
 import it.pagopa.swclient.mil.azureservices.identity.client.workload.AzureWorkloadIdentityClient;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Any;
 import jakarta.enterprise.inject.Instance;
@@ -30,6 +35,19 @@ import jakarta.inject.Inject;
  * Reactive service to get an access token for an Azure resource using a cache to reduce the
  * invocations of Microsoft Entra ID.
  * </p>
+ * <p>
+ * Optionally, the access tokens can be renewed in background before their expiration (refresh-ahead
+ * mode), so that the callers never wait for Microsoft Entra ID while a valid access token exists.
+ * This mode is controlled by the following properties:
+ * </p>
+ * <ul>
+ * <li>{@code azure-identity.refresh-ahead.enabled} enables the refresh-ahead mode (default
+ * {@code false});</li>
+ * <li>{@code azure-identity.refresh-ahead.margin} is the number of seconds before the expiration
+ * of an access token at which it is renewed (default {@code 300});</li>
+ * <li>{@code azure-identity.refresh-ahead.retry-delay} is the number of seconds to wait before
+ * retrying a failed renewal (default {@code 10}).</li>
+ * </ul>
  * 
  * @author Antonio Tarricone
  */
@@ -47,8 +65,81 @@ public class AzureIdentityReactiveService {
 	 * Cache of access tokens. The key is the
 	 * {@link it.pagopa.swclient.mil.azureservices.identity.bean.Scope Scope}.
 	 * </p>
+	 * <p>
+	 * Lookups are non-blocking and an access token is replaced only by a newer one, so a slow request
+	 * can't overwrite an access token retrieved later.
+	 * </p>
+	 */
+	private ConcurrentHashMap<String, CachedAccessToken> cache;
+
+	/**
+	 * <p>
+	 * Number of requests served by the cache.
+	 * </p>
+	 */
+	private final LongAdder cacheHits = new LongAdder();
+
+	/**
+	 * <p>
+	 * Number of requests not served by the cache.
+	 * </p>
+	 */
+	private final LongAdder cacheMisses = new LongAdder();
+
+	/**
+	 * <p>
+	 * Number of access tokens retrieved from Microsoft Entra ID and stored in the cache.
+	 * </p>
+	 */
+	private final LongAdder cacheRefreshes = new LongAdder();
+
+	/**
+	 * <p>
+	 * Number of access tokens renewed in background.
+	 * </p>
+	 */
+	private final LongAdder backgroundRefreshes = new LongAdder();
+
+	/**
+	 * <p>
+	 * Pending requests of access tokens to Microsoft Entra ID: all the callers which need a new access
+	 * token for the same scope at the same time share the same request. The key is the
+	 * {@link it.pagopa.swclient.mil.azureservices.identity.bean.Scope Scope}.
+	 * </p>
 	 */
-	private Map<String, AccessToken> cache;
+	private Map<String, Uni<AccessToken>> pendingRequests;
+
+	/**
+	 * <p>
+	 * If {@code true}, the access tokens are renewed in background before their expiration.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-identity.refresh-ahead.enabled", defaultValue = "false")
+	boolean refreshAheadEnabled;
+
+	/**
+	 * <p>
+	 * Number of seconds before the expiration of an access token at which it is renewed.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-identity.refresh-ahead.margin", defaultValue = "300")
+	long refreshAheadMargin;
+
+	/**
+	 * <p>
+	 * Number of seconds to wait before retrying a failed renewal.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-identity.refresh-ahead.retry-delay", defaultValue = "10")
+	long refreshAheadRetryDelay;
+
+	/**
+	 * <p>
+	 * Timers of the pending renewals. The key is the
+	 * {@link it.pagopa.swclient.mil.azureservices.identity.bean.Scope Scope}.
+	 * </p>
+	 */
+	private Map<String, Cancellable> refreshTimers;
 
 	/**
 	 * <p>
@@ -94,24 +185,135 @@ public class AzureIdentityReactiveService {
 		/*
 		 * Initialize access token cache.
 		 */
-		cache = new HashMap<>();
+		cache = new ConcurrentHashMap<>();
+		refreshTimers = new ConcurrentHashMap<>();
+		pendingRequests = new ConcurrentHashMap<>();
 	}
 
 	/**
 	 * <p>
 	 * Retrieves an access token from Microsoft Entra ID and stores it in the cache.
 	 * </p>
+	 * <p>
+	 * If a request for the same scope is already in progress, the caller subscribes to it instead of
+	 * sending a new one.
+	 * </p>
 	 * 
 	 * @param scope {@link it.pagopa.swclient.mil.azureservices.identity.bean.Scope Scope}
 	 * @return {@link it.pagopa.swclient.mil.azureservices.identity.bean.AccessToken AccessToken}
 	 */
 	public Uni<AccessToken> getNewAccessTokenAndCacheIt(String scope) {
+		return Uni.createFrom().deferred(() -> pendingRequests.computeIfAbsent(scope, this::requestAccessToken));
+	}
+
+	/**
+	 * <p>
+	 * Returns a shareable request of an access token to Microsoft Entra ID which stores the returned
+	 * access token in the cache and, when terminated, removes itself from the pending requests.
+	 * </p>
+	 * 
+	 * @param scope {@link it.pagopa.swclient.mil.azureservices.identity.bean.Scope Scope}
+	 * @return {@link it.pagopa.swclient.mil.azureservices.identity.bean.AccessToken AccessToken}
+	 */
+	private Uni<AccessToken> requestAccessToken(String scope) {
 		Log.debug("Get new access token");
 		return identityClient.getAccessToken(scope)
 			.invoke(accessToken -> {
 				Log.trace("Store access token");
-				cache.put(scope, accessToken);
-			});
+				cache.merge(scope, new CachedAccessToken(accessToken), CachedAccessToken::newer);
+				cacheRefreshes.increment();
+				scheduleRefresh(scope, accessToken);
+			})
+			.onTermination()
+			.invoke(() -> pendingRequests.remove(scope))
+			.memoize()
+			.indefinitely();
+	}
+
+	/**
+	 * <p>
+	 * If the refresh-ahead mode is enabled, schedules the renewal of the given access token
+	 * {@code azure-identity.refresh-ahead.margin} seconds before its expiration.
+	 * </p>
+	 * 
+	 * @param scope       {@link it.pagopa.swclient.mil.azureservices.identity.bean.Scope Scope}
+	 * @param accessToken {@link it.pagopa.swclient.mil.azureservices.identity.bean.AccessToken
+	 *                    AccessToken}
+	 */
+	private void scheduleRefresh(String scope, AccessToken accessToken) {
+		if (!refreshAheadEnabled) {
+			return;
+		}
+
+		long remaining = accessToken.getExpiresOn() - Instant.now().getEpochSecond();
+		if (remaining <= 0) {
+			Log.debugf("Access token for %s is already expired: it won't be renewed in background", scope);
+			return;
+		}
+
+		/*
+		 * If the access token lives less than the margin, it is renewed at the half of its remaining
+		 * life.
+		 */
+		long delay = remaining > refreshAheadMargin ? remaining - refreshAheadMargin : remaining / 2;
+		scheduleRefresh(scope, Math.max(delay, 1));
+	}
+
+	/**
+	 * <p>
+	 * Schedules the renewal of the access token for the given scope, replacing the pending one if any.
+	 * </p>
+	 * <p>
+	 * When a timer fires, it removes itself from the pending renewals: so the renewal it is running
+	 * reschedules the next one without cancelling itself.
+	 * </p>
+	 * 
+	 * @param scope {@link it.pagopa.swclient.mil.azureservices.identity.bean.Scope Scope}
+	 * @param delay Number of seconds to wait before renewing the access token.
+	 */
+	private void scheduleRefresh(String scope, long delay) {
+		Cancellable previous = refreshTimers.remove(scope);
+		if (previous != null) {
+			previous.cancel();
+		}
+
+		Log.debugf("Access token for %s will be renewed in %d s", scope, delay);
+		AtomicReference<Cancellable> self = new AtomicReference<>();
+		Cancellable timer = Uni.createFrom().voidItem()
+			.onItem()
+			.delayIt()
+			.by(Duration.ofSeconds(delay))
+			.invoke(() -> refreshTimers.remove(scope, self.get())) // From now on, this renewal can't be cancelled by the next scheduling.
+			.chain(() -> getNewAccessTokenAndCacheIt(scope))
+			.subscribe()
+			.with(
+				accessToken -> {
+					Log.debugf("Access token for %s renewed in background", scope);
+					backgroundRefreshes.increment();
+				},
+				failure -> onRefreshFailure(scope, failure));
+		self.set(timer);
+		refreshTimers.put(scope, timer);
+	}
+
+	/**
+	 * <p>
+	 * Handles the failure of a renewal in background: if the stored access token is still valid, the
+	 * renewal is retried after {@code azure-identity.refresh-ahead.retry-delay} seconds, otherwise
+	 * the access token will be retrieved by the next request.
+	 * </p>
+	 * 
+	 * @param scope   {@link it.pagopa.swclient.mil.azureservices.identity.bean.Scope Scope}
+	 * @param failure Failure of the renewal.
+	 */
+	private void onRefreshFailure(String scope, Throwable failure) {
+		Log.warnf(failure, "Error renewing access token for %s in background", scope);
+		CachedAccessToken cachedAccessToken = cache.get(scope);
+		if (cachedAccessToken != null && cachedAccessToken.expiresOn() > Instant.now().getEpochSecond() + refreshAheadRetryDelay) {
+			scheduleRefresh(scope, refreshAheadRetryDelay);
+		} else {
+			Log.debugf("Access token for %s will be retrieved by the next request", scope);
+		}
 	}
 
 	/**
@@ -124,12 +326,14 @@ public class AzureIdentityReactiveService {
 	 * @return {@link it.pagopa.swclient.mil.azureservices.identity.bean.AccessToken AccessToken}
 	 */
 	public Uni<AccessToken> getAccessToken(String scope) {
-		AccessToken accessToken = cache.get(scope);
-		if (accessToken != null && accessToken.getExpiresOn() > Instant.now().getEpochSecond()) {
+		CachedAccessToken cachedAccessToken = cache.get(scope);
+		if (cachedAccessToken != null && cachedAccessToken.expiresOn() > System.currentTimeMillis() / 1000) {
 			Log.trace("Stored access token is going to be used");
-			return Uni.createFrom().item(accessToken);
+			cacheHits.increment();
+			return cachedAccessToken.uni();
 		}
 		Log.debug("There's no stored access token or it is expired");
+		cacheMisses.increment();
 		return getNewAccessTokenAndCacheIt(scope);
 	}
 
@@ -139,9 +343,65 @@ public class AzureIdentityReactiveService {
 	 * </p>
 	 */
 	public void clearAccessTokenCache() {
+		cancelRefreshTimers();
 		cache.clear();
 	}
 
+	/**
+	 * <p>
+	 * Cancels the pending renewals.
+	 * </p>
+	 */
+	@PreDestroy
+	void cancelRefreshTimers() {
+		refreshTimers.values().forEach(Cancellable::cancel);
+		refreshTimers.clear();
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of requests served by the access tokens cache.
+	 * </p>
+	 * 
+	 * @return The number of cache hits.
+	 */
+	public long getCacheHits() {
+		return cacheHits.sum();
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of requests not served by the access tokens cache.
+	 * </p>
+	 * 
+	 * @return The number of cache misses.
+	 */
+	public long getCacheMisses() {
+		return cacheMisses.sum();
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of access tokens retrieved from Microsoft Entra ID and stored in the cache.
+	 * </p>
+	 * 
+	 * @return The number of cache refreshes.
+	 */
+	public long getCacheRefreshes() {
+		return cacheRefreshes.sum();
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of access tokens renewed in background.
+	 * </p>
+	 * 
+	 * @return The number of renewals in background.
+	 */
+	public long getBackgroundRefreshes() {
+		return backgroundRefreshes.sum();
+	}
+
 	/**
 	 * <p>
 	 * Returns identity client in use.
@@ -153,4 +413,42 @@ public class AzureIdentityReactiveService {
 	public AzureIdentityClient getIdentityClient() {
 		return identityClient;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * <p>
+	 * Entry of the access tokens cache. It holds the {@link io.smallrye.mutiny.Uni Uni} which emits the
+	 * access token, so that a cache-hit doesn't create any object.
+	 * </p>
+	 * 
+	 * @param accessToken {@link it.pagopa.swclient.mil.azureservices.identity.bean.AccessToken
+	 *                    AccessToken}
+	 * @param expiresOn   Unix epoch in seconds of expiration of the access token.
+	 * @param uni         {@link io.smallrye.mutiny.Uni Uni} which emits the access token.
+	 */
+	private record CachedAccessToken(AccessToken accessToken, long expiresOn, Uni<AccessToken> uni) {
+		/**
+		 * <p>
+		 * Constructor.
+		 * </p>
+		 * 
+		 * @param accessToken {@link it.pagopa.swclient.mil.azureservices.identity.bean.AccessToken
+		 *                    AccessToken}
+		 */
+		CachedAccessToken(AccessToken accessToken) {
+			this(accessToken, accessToken.getExpiresOn(), Uni.createFrom().item(accessToken));
+		}
+
+		/**
+		 * <p>
+		 * Returns the entry with the access token which expires later.
+		 * </p>
+		 * 
+		 * @param current   Entry currently stored in the cache.
+		 * @param candidate Entry to store in the cache.
+		 * @return The entry to store in the cache.
+		 */
+		static CachedAccessToken newer(CachedAccessToken current, CachedAccessToken candidate) {
+			return candidate.expiresOn() >= current.expiresOn() ? candidate : current;
+		}
+	}
+}
@@ -45,6 +45,10 @@ import jakarta.ws.rs.core.MediaType;
  * <li>{@code azure-key-vault-keys.get-keys.maxresults} must be set with the maximum number of items
  * returned in a page by get operations.</li>
  * </ul>
+ * <p>
+ * In dev and test profiles, faults and latency can be injected into the requests by means of
+ * {@link EmulatedFaultsFilter}.
+ * </p>
  * 
  * @author Antonio Tarricone
  */
@@ -0,0 +1,256 @@
+/*
+ * EmulatedFaultsFilter.java
+ *
+ * 17 ott 2026
+ */
+package it.pagopa.swclient.mil.azureservices.keyvault.keys.client;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestContext;
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestFilter;
+
+import io.quarkus.arc.profile.UnlessBuildProfile;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * <p>
+ * Injects faults and latency into the requests to Azure Key Vault, to benchmark the resilience of
+ * the callers. All faults are disabled by default.
+ * </p>
+ * <p>
+ * The faults are injected below the service, so they go through the renewal of the access token and
+ * the retry policy of
+ * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveServiceImpl
+ * AzureKeyVaultKeysReactiveServiceImpl} as the real ones do.
+ * </p>
+ * <p>
+ * Before every request, the filter:
+ * </p>
+ * <ol>
+ * <li>responds 429 with {@code Retry-After: 1} if more than
+ * {@code azure-key-vault-keys.faults.quota.per-second} requests have been sent in the current
+ * second, as Azure Key Vault does when its service limits are exceeded;</li>
+ * <li>responds 429 with {@code Retry-After} equals to
+ * {@code azure-key-vault-keys.faults.throttling.retry-after} with probability
+ * {@code azure-key-vault-keys.faults.throttling.rate};</li>
+ * <li>responds 401 with probability {@code azure-key-vault-keys.faults.unauthorized.rate}, as Azure
+ * Key Vault does when the access token is expired;</li>
+ * <li>responds 503 with probability {@code azure-key-vault-keys.faults.server-error.rate};</li>
+ * <li>otherwise, delays the request of {@code azure-key-vault-keys.faults.latency.min} milliseconds
+ * plus an exponentially distributed time whose mean is
+ * {@code azure-key-vault-keys.faults.latency.tail-mean} milliseconds, so that the latency has a long
+ * tail. The request is suspended meanwhile, so no thread is blocked, and it is sent only when the
+ * delay is elapsed.</li>
+ * </ol>
+ * <p>
+ * The filter isn't registered on
+ * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.client.AzureKeyVaultKeysReactiveClient
+ * AzureKeyVaultKeysReactiveClient} by default and the bean doesn't exist in the {@code prod} profile,
+ * so production never carries it. To enable it in dev or test, the {@code application.properties}
+ * must have:
+ * </p>
+ * 
+ * <pre>
+ * %dev.quarkus.rest-client.azure-key-vault-keys.providers=it.pagopa.swclient.mil.azureservices.keyvault.keys.client.EmulatedFaultsFilter
+ * </pre>
+ * <p>
+ * Benchmarking against the emulator isn't supported:
+ * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveServiceDev
+ * AzureKeyVaultKeysReactiveServiceDev} doesn't use the REST client, so the filter never runs when
+ * {@code azure-key-vault-keys.emulator.enabled} is {@code true}. To benchmark without a real Azure Key
+ * Vault, {@code quarkus.rest-client.azure-key-vault-keys.url} must point to a stub server.
+ * </p>
+ * 
+ * @author Antonio Tarricone
+ */
+@ApplicationScoped
+@UnlessBuildProfile("prod")
+public class EmulatedFaultsFilter implements ResteasyReactiveClientRequestFilter {
+	/**
+	 * <p>
+	 * Minimum latency in milliseconds.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-key-vault-keys.faults.latency.min", defaultValue = "0")
+	long minLatency;
+
+	/**
+	 * <p>
+	 * Mean of the exponentially distributed latency added to the minimum one, in milliseconds.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-key-vault-keys.faults.latency.tail-mean", defaultValue = "0")
+	long tailMeanLatency;
+
+	/**
+	 * <p>
+	 * Probability of 429.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-key-vault-keys.faults.throttling.rate", defaultValue = "0")
+	double throttlingRate;
+
+	/**
+	 * <p>
+	 * Value of Retry-After in seconds returned with 429.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-key-vault-keys.faults.throttling.retry-after", defaultValue = "1")
+	int retryAfter = 1;
+
+	/**
+	 * <p>
+	 * Probability of 401.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-key-vault-keys.faults.unauthorized.rate", defaultValue = "0")
+	double unauthorizedRate;
+
+	/**
+	 * <p>
+	 * Probability of 503.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-key-vault-keys.faults.server-error.rate", defaultValue = "0")
+	double serverErrorRate;
+
+	/**
+	 * <p>
+	 * Max number of requests per second: 0 means no limit.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-key-vault-keys.faults.quota.per-second", defaultValue = "0")
+	int quotaPerSecond;
+
+	/**
+	 * <p>
+	 * Current second for the quota in the upper 32 bits and number of requests sent in it in the lower
+	 * 32 bits, so that both are updated atomically.
+	 * </p>
+	 */
+	private final AtomicLong requestsInSecond = new AtomicLong();
+
+	/**
+	 * <p>
+	 * Aborts the request with the emulated fault, if any, otherwise delays it.
+	 * </p>
+	 * 
+	 * @param requestContext {@link ResteasyReactiveClientRequestContext}
+	 */
+	@Override
+	public void filter(ResteasyReactiveClientRequestContext requestContext) {
+		Response fault = nextFault();
+		if (fault != null) {
+			requestContext.abortWith(fault);
+			return;
+		}
+
+		long latency = nextLatency();
+		if (latency > 0) {
+			requestContext.suspend();
+			Uni.createFrom()
+				.voidItem()
+				.onItem()
+				.delayIt()
+				.by(Duration.ofMillis(latency))
+				.subscribe()
+				.with(v -> requestContext.resume(), requestContext::resume);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns the response of the fault to inject, if any.
+	 * </p>
+	 * 
+	 * @return {@link Response} or {@code null}.
+	 */
+	private Response nextFault() {
+		if (isQuotaExceeded()) {
+			Log.debug("Emulated fault: quota exceeded");
+			return tooManyRequests(1);
+		}
+
+		if (throttlingRate <= 0 && unauthorizedRate <= 0 && serverErrorRate <= 0) {
+			return null;
+		}
+
+		double random = ThreadLocalRandom.current().nextDouble();
+		if (random < throttlingRate) {
+			Log.debug("Emulated fault: throttling");
+			return tooManyRequests(retryAfter);
+		}
+
+		random -= throttlingRate;
+		if (random < unauthorizedRate) {
+			Log.debug("Emulated fault: unauthorized");
+			return Response.status(Response.Status.UNAUTHORIZED).build();
+		}
+
+		random -= unauthorizedRate;
+		if (random < serverErrorRate) {
+			Log.debug("Emulated fault: server error");
+			return Response.status(Response.Status.SERVICE_UNAVAILABLE).build();
+		}
+
+		return null;
+	}
+
+	/**
+	 * <p>
+	 * Counts the current request and verifies if the quota is exceeded.
+	 * </p>
+	 * 
+	 * @return {@code true} if the quota is exceeded, {@code false} otherwise.
+	 */
+	private boolean isQuotaExceeded() {
+		if (quotaPerSecond <= 0) {
+			return false;
+		}
+
+		long second = System.currentTimeMillis() / 1000;
+		long current = requestsInSecond.updateAndGet(value -> {
+			if (value >>> 32 != second) {
+				return second << 32 | 1;
+			}
+			return (value & 0xFFFFFFFFL) < Integer.MAX_VALUE ? value + 1 : value;
+		});
+
+		return (current & 0xFFFFFFFFL) > quotaPerSecond;
+	}
+
+	/**
+	 * <p>
+	 * Returns the latency to inject in milliseconds.
+	 * </p>
+	 * 
+	 * @return The latency in milliseconds.
+	 */
+	private long nextLatency() {
+		if (tailMeanLatency <= 0) {
+			return minLatency;
+		}
+		return minLatency + (long) (-tailMeanLatency * Math.log(1 - ThreadLocalRandom.current().nextDouble()));
+	}
+
+	/**
+	 * <p>
+	 * Returns a 429 response.
+	 * </p>
+	 * 
+	 * @param seconds Value of Retry-After.
+	 * @return {@link Response}
+	 */
+	private static Response tooManyRequests(int seconds) {
+		return Response.status(Response.Status.TOO_MANY_REQUESTS)
+			.header("Retry-After", seconds)
+			.build();
+	}
+}
@@ -9,7 +9,15 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import io.quarkus.logging.Log;
 import io.smallrye.mutiny.Context;
@@ -17,9 +25,12 @@ import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.DeletedKeyBundle;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyBundle;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyCreateParameters;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyItem;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyListResult;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.util.KeyUtils;
+import it.pagopa.swclient.mil.azureservices.util.TimedCache;
+import it.pagopa.swclient.mil.azureservices.util.WebAppExcUtils;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -27,6 +38,56 @@ import jakarta.inject.Inject;
  * <p>
  * Provides value added services around Azure Key Vault.
  * </p>
+ * <p>
+ * The following properties of {@code application.properties} control how many requests to Azure
+ * Key Vault are in flight at the same time while searching for keys:
+ * </p>
+ * <ul>
+ * <li>{@code azure-key-vault-keys.ext.concurrency}: max number of concurrent requests (default 1,
+ * which means that the requests are executed one after another);</li>
+ * <li>{@code azure-key-vault-keys.ext.preserve-order}: if {@code true} and the concurrency is
+ * greater than 1, the keys are returned in the same order they would have with sequential execution
+ * (default {@code false}).</li>
+ * </ul>
+ * <p>
+ * Deleting expired keys, the max number of concurrent deletions is controlled by
+ * {@code azure-key-vault-keys.ext.delete.concurrency} (default 1). The failure of a deletion doesn't
+ * stop the others: it is logged and counted.
+ * </p>
+ * <p>
+ * Before fetching a key version, its attributes and tags in the list of versions are checked: the
+ * key versions which aren't valid or haven't the expected domain aren't fetched.
+ * </p>
+ * <p>
+ * Searching for the key with the longest expiration, the key versions which expire before the best
+ * key found so far aren't fetched, unless {@code azure-key-vault-keys.ext.longest-exp.skip-shorter}
+ * is {@code false}.
+ * </p>
+ * <p>
+ * The back-off in case of 429 is applied to every single request by
+ * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveService
+ * AzureKeyVaultKeysReactiveService}.
+ * </p>
+ * <p>
+ * The list of keys, the lists of key versions and the key bundles can be cached in memory to avoid
+ * crawling Azure Key Vault every time. The cache is controlled by the following properties:
+ * </p>
+ * <ul>
+ * <li>{@code azure-key-vault-keys.ext.cache.ttl}: time-to-live of the cached items in milliseconds
+ * (default 0, which means that the cache is disabled);</li>
+ * <li>{@code azure-key-vault-keys.ext.cache.max-size}: max number of cached lists and max number of
+ * cached key bundles (default 1000).</li>
+ * </ul>
+ * <p>
+ * The cache is invalidated when keys are created or deleted by means of this service.
+ * </p>
+ * <p>
+ * The key type of each fetched key version can be remembered, so that the versions whose type
+ * doesn't match searching criteria aren't fetched again. Since the key type of a version never
+ * changes, these entries aren't invalidated: their time-to-live is controlled by
+ * {@code azure-key-vault-keys.ext.key-type-cache.ttl} in milliseconds (default 0, which means that
+ * key types aren't remembered).
+ * </p>
  * 
  * @author Antonio Tarricone
  */
@@ -56,17 +117,331 @@ public class AzureKeyVaultKeysExtReactiveService {
 	 */
 	private static final String SKIPTOKEN_VERS_KEY = "skiptoken-vers";
 
+	/**
+	 * <p>
+	 * Max number of concurrent requests to Azure Key Vault.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-key-vault-keys.ext.concurrency", defaultValue = "1")
+	int concurrency;
+
+	/**
+	 * <p>
+	 * If {@code true}, the order of the items is preserved when the requests are executed concurrently.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-key-vault-keys.ext.preserve-order", defaultValue = "false")
+	boolean preserveOrder;
+
+	/**
+	 * <p>
+	 * Max number of concurrent deletions of expired keys.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-key-vault-keys.ext.delete.concurrency", defaultValue = "1")
+	int deleteConcurrency = 1;
+
+	/**
+	 * <p>
+	 * If {@code true}, searching for the key with the longest expiration, the key versions which expire
+	 * before the best key found so far aren't fetched.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-key-vault-keys.ext.longest-exp.skip-shorter", defaultValue = "true")
+	boolean skipShorterExp = true;
+
+	/**
+	 * <p>
+	 * Cache key of the list of keys.
+	 * </p>
+	 */
+	private static final String KEYS_CACHE_KEY = "";
+
+	/**
+	 * <p>
+	 * Cache of the list of keys and of the lists of key versions. The key is the name of the key or
+	 * {@link #KEYS_CACHE_KEY} for the list of keys.
+	 * </p>
+	 */
+	private TimedCache<String, List<KeyItem>> itemsCache;
+
+	/**
+	 * <p>
+	 * Cache of the key bundles. The key is the kid of the key version.
+	 * </p>
+	 */
+	private TimedCache<String, KeyBundle> bundlesCache;
+
+	/**
+	 * <p>
+	 * Cache of the key types. The key is the kid of the key version.
+	 * </p>
+	 */
+	private TimedCache<String, String> ktyCache;
+
+	/**
+	 * <p>
+	 * Number of key versions which haven't been fetched because their attributes or their tags in the
+	 * list of versions don't match searching criteria.
+	 * </p>
+	 */
+	private final LongAdder prefilteredGetKeyCalls = new LongAdder();
+
+	/**
+	 * <p>
+	 * Number of key versions which haven't been fetched because their cached key type doesn't match
+	 * searching criteria.
+	 * </p>
+	 */
+	private final LongAdder skippedGetKeyCalls = new LongAdder();
+
+	/**
+	 * <p>
+	 * Number of key versions which haven't been fetched because they expire before the best key found
+	 * so far, searching for the key with the longest expiration.
+	 * </p>
+	 */
+	private final LongAdder prunedGetKeyCalls = new LongAdder();
+
+	/**
+	 * <p>
+	 * Number of expired keys which have been deleted.
+	 * </p>
+	 */
+	private final LongAdder deletedKeys = new LongAdder();
+
+	/**
+	 * <p>
+	 * Number of expired keys whose deletion failed for a reason other than throttling.
+	 * </p>
+	 */
+	private final LongAdder failedDeletions = new LongAdder();
+
+	/**
+	 * <p>
+	 * Number of expired keys whose deletion failed because Azure Key Vault kept returning 429.
+	 * </p>
+	 */
+	private final LongAdder throttledDeletions = new LongAdder();
+
+	/**
+	 * <p>
+	 * Generation of the cached lists: it is incremented every time the cache is invalidated, so that a
+	 * list crawled before the invalidation isn't stored in the cache after it.
+	 * </p>
+	 */
+	private final AtomicLong cacheGeneration = new AtomicLong();
+
 	/**
 	 * <p>
 	 * Constructor.
 	 * </p>
 	 * 
-	 * @param keysService {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveService
-	 *                    AzureKeyVaultKeysReactiveService}
+	 * @param keysService  {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveService
+	 *                     AzureKeyVaultKeysReactiveService}
+	 * @param cacheTtl     Time-to-live of the cached items in milliseconds.
+	 * @param cacheMaxSize Max number of cached items.
+	 * @param ktyCacheTtl  Time-to-live of the cached key types in milliseconds.
 	 */
 	@Inject
-	AzureKeyVaultKeysExtReactiveService(AzureKeyVaultKeysReactiveService keysService) {
+	AzureKeyVaultKeysExtReactiveService(
+		AzureKeyVaultKeysReactiveService keysService,
+		@ConfigProperty(name = "azure-key-vault-keys.ext.cache.ttl", defaultValue = "0") long cacheTtl,
+		@ConfigProperty(name = "azure-key-vault-keys.ext.cache.max-size", defaultValue = "1000") int cacheMaxSize,
+		@ConfigProperty(name = "azure-key-vault-keys.ext.key-type-cache.ttl", defaultValue = "0") long ktyCacheTtl) {
 		this.keysService = keysService;
+		itemsCache = new TimedCache<>(cacheTtl, cacheMaxSize);
+		bundlesCache = new TimedCache<>(cacheTtl, cacheMaxSize);
+		ktyCache = new TimedCache<>(ktyCacheTtl, cacheMaxSize);
+	}
+
+	/**
+	 * <p>
+	 * Returns the items from the cache or, in case of cache-miss, from the given supplier storing them
+	 * in the cache, unless the cache has been invalidated while they were being retrieved.
+	 * </p>
+	 * 
+	 * @param cacheKey Cache key of the items.
+	 * @param supplier Supplier of the items.
+	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyItem KeyItem}
+	 */
+	private Multi<KeyItem> getCachedItems(String cacheKey, Supplier<Multi<KeyItem>> supplier) {
+		if (!itemsCache.isEnabled()) {
+			return supplier.get();
+		}
+
+		return Multi.createFrom().deferred(() -> {
+			List<KeyItem> items = itemsCache.get(cacheKey);
+			if (items != null) {
+				Log.trace("Cached items are going to be used");
+				return Multi.createFrom().iterable(items);
+			}
+
+			Log.trace("There are no cached items");
+			long generation = cacheGeneration.get();
+			return supplier.get()
+				.collect()
+				.asList()
+				.invoke(list -> {
+					if (cacheGeneration.get() == generation) {
+						itemsCache.put(cacheKey, list);
+					} else {
+						Log.trace("The cache has been invalidated meanwhile: items aren't cached");
+					}
+				})
+				.onItem()
+				.transformToMulti(list -> Multi.createFrom().iterable(list));
+		});
+	}
+
+	/**
+	 * <p>
+	 * Returns all keys from the cache or from Azure Key Vault.
+	 * </p>
+	 * 
+	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyItem KeyItem}
+	 */
+	private Multi<KeyItem> getKeys() {
+		return getCachedItems(KEYS_CACHE_KEY, this::listKeys);
+	}
+
+	/**
+	 * <p>
+	 * Returns all versions of a key from the cache or from Azure Key Vault.
+	 * </p>
+	 * 
+	 * @param keyName The name of the key.
+	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyItem KeyItem}
+	 */
+	private Multi<KeyItem> getKeyVersions(String keyName) {
+		return getCachedItems(keyName, () -> listKeyVersions(keyName));
+	}
+
+	/**
+	 * <p>
+	 * Returns the key bundle of a key version from the cache or from Azure Key Vault.
+	 * </p>
+	 * 
+	 * @param keyItem {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyItem KeyItem}
+	 *                of the key version.
+	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyBundle KeyBundle}
+	 */
+	private Uni<KeyBundle> getKey(KeyItem keyItem) {
+		String[] keyNameVersion = KeyUtils.getKeyNameVersion(keyItem);
+		if (!bundlesCache.isEnabled()) {
+			return keysService.getKey(keyNameVersion[0], keyNameVersion[1])
+				.invoke(bundle -> ktyCache.put(keyItem.getKid(), bundle.getKey().getKty()));
+		}
+
+		return Uni.createFrom().deferred(() -> {
+			KeyBundle keyBundle = bundlesCache.get(keyItem.getKid());
+			if (keyBundle != null) {
+				Log.trace("Cached key bundle is going to be used");
+				return Uni.createFrom().item(keyBundle);
+			}
+
+			Log.trace("There's no cached key bundle");
+			return keysService.getKey(keyNameVersion[0], keyNameVersion[1])
+				.invoke(bundle -> {
+					bundlesCache.put(keyItem.getKid(), bundle);
+					ktyCache.put(keyItem.getKid(), bundle.getKey().getKty());
+				});
+		});
+	}
+
+	/**
+	 * <p>
+	 * Verifies, without fetching it, if a key version can have one of the expected types.
+	 * </p>
+	 * 
+	 * @param keyVersion   {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyItem
+	 *                     KeyItem} of the key version.
+	 * @param expectedKtys {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyType
+	 *                     JsonWebKeyType}
+	 * @return {@code false} if the type of the key version is known and it doesn't match,
+	 *         {@code true} otherwise.
+	 */
+	private boolean canTypeMatch(KeyItem keyVersion, List<String> expectedKtys) {
+		String kty = ktyCache.get(keyVersion.getKid());
+		if (kty == null || expectedKtys == null || expectedKtys.contains(kty)) {
+			return true;
+		}
+		Log.tracef("Key type doesn't match: kid = %s, actualKty = %s, expectedKtys = %s", keyVersion.getKid(), kty, expectedKtys);
+		skippedGetKeyCalls.increment();
+		return false;
+	}
+
+	/**
+	 * <p>
+	 * Verifies, without fetching it, if a key version can match searching criteria by means of the
+	 * attributes and the tags in the list of versions: the key version must be valid and, if it has
+	 * tags, it must have the expected domain.
+	 * </p>
+	 * 
+	 * @param keyVersion {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyItem KeyItem}
+	 *                   of the key version.
+	 * @param domain     Represents who uses the key.
+	 * @return {@code false} if the key version can't match, {@code true} otherwise.
+	 */
+	private boolean canVersionMatch(KeyItem keyVersion, String domain) {
+		if (KeyUtils.isValid(keyVersion) && (keyVersion.getTags() == null || KeyUtils.doesDomainMatch(keyVersion, domain))) {
+			return true;
+		}
+		Log.tracef("Key version doesn't match: kid = %s", keyVersion.getKid());
+		prefilteredGetKeyCalls.increment();
+		return false;
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of key versions which haven't been fetched because their attributes or their
+	 * tags in the list of versions don't match searching criteria.
+	 * </p>
+	 * 
+	 * @return The number of requests to get a key avoided by the attributes and the tags.
+	 */
+	public long getPrefilteredGetKeyCalls() {
+		return prefilteredGetKeyCalls.sum();
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of key versions which haven't been fetched because their cached key type
+	 * doesn't match searching criteria.
+	 * </p>
+	 * 
+	 * @return The number of requests to get a key avoided by the key type cache.
+	 */
+	public long getSkippedGetKeyCalls() {
+		return skippedGetKeyCalls.sum();
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of key versions which haven't been fetched because they expire before the
+	 * best key found so far, searching for the key with the longest expiration.
+	 * </p>
+	 * 
+	 * @return The number of requests to get a key avoided by the pruning.
+	 */
+	public long getPrunedGetKeyCalls() {
+		return prunedGetKeyCalls.sum();
+	}
+
+	/**
+	 * <p>
+	 * Removes from the cache the list of keys and everything related to the given key.
+	 * </p>
+	 * 
+	 * @param keyName The name of the key.
+	 */
+	private void invalidateCache(String keyName) {
+		Log.tracef("Invalidate cache for %s", keyName);
+		cacheGeneration.incrementAndGet();
+		itemsCache.remove(KEYS_CACHE_KEY);
+		itemsCache.remove(keyName);
+		String segment = "/keys/" + keyName + "/";
+		bundlesCache.removeIf(kid -> kid.contains(segment));
 	}
 
 	/**
@@ -78,7 +453,7 @@ public class AzureKeyVaultKeysExtReactiveService {
 	 * 
 	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyItem KeyItem}
 	 */
-	private Multi<KeyItem> getKeys() {
+	private Multi<KeyItem> listKeys() {
 		Log.trace("Get keys");
 		Context context = Context.empty();
 		return Multi.createBy().repeating()
@@ -129,7 +504,7 @@ public class AzureKeyVaultKeysExtReactiveService {
 	 * @param keyName The name of the key.
 	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyItem KeyItem}
 	 */
-	private Multi<KeyItem> getKeyVersions(String keyName) {
+	private Multi<KeyItem> listKeyVersions(String keyName) {
 		Context context = Context.empty();
 		return Multi.createBy().repeating()
 			.uni(
@@ -169,6 +544,43 @@ public class AzureKeyVaultKeysExtReactiveService {
 			.disjoint();
 	}
 
+	/**
+	 * <p>
+	 * Transforms each item in a {@link io.smallrye.mutiny.Multi Multi} by means of the given mapper,
+	 * subscribing at most to {@code concurrency} inner streams at the same time.
+	 * </p>
+	 * <p>
+	 * If the order has to be preserved, the items are processed in batches of {@code concurrency}
+	 * items: each batch is requested concurrently and its results are emitted in the original order.
+	 * </p>
+	 * 
+	 * @param <T>    Type of the items to transform.
+	 * @param <R>    Type of the transformed items.
+	 * @param items  Items to transform.
+	 * @param mapper Function which transforms an item in a {@link io.smallrye.mutiny.Multi Multi}.
+	 * @return Transformed items.
+	 */
+	private <T, R> Multi<R> transformToMulti(Multi<T> items, Function<T, Multi<R>> mapper) {
+		if (concurrency <= 1) {
+			return items.onItem().transformToMultiAndConcatenate(mapper);
+		}
+
+		if (!preserveOrder) {
+			return items.onItem().transformToMulti(mapper).merge(concurrency);
+		}
+
+		return items.group().intoLists().of(concurrency)
+			.onItem().transformToMultiAndConcatenate(batch -> Uni.join()
+				.all(batch.stream()
+					.map(item -> mapper.apply(item).collect().asList())
+					.toList())
+				.andFailFast()
+				.toMulti())
+			.onItem().transformToIterable(results -> results.stream()
+				.flatMap(List::stream)
+				.toList());
+	}
+
 	/**
 	 * <p>
 	 * Returns all valid keys which match searching criteria.
@@ -182,13 +594,36 @@ public class AzureKeyVaultKeysExtReactiveService {
 	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyBundle KeyBundle}
 	 */
 	public Multi<KeyBundle> getKeys(String domain, List<String> expectedOps, List<String> expectedKtys) {
-		return getKeys() // Multi<KeyItem>
-			.filter(keyItem -> KeyUtils.doesDomainMatch(keyItem, domain))
-			.map(KeyUtils::getKeyName) // Multi<String> keyName
-			.onItem().transformToMultiAndConcatenate(this::getKeyVersions) // Multi<KeyItem>
-			.filter(KeyUtils::isValid)
-			.map(KeyUtils::getKeyNameVersion) // Multi<String[]>
-			.onItem().transformToMultiAndConcatenate(keyNameVersion -> keysService.getKey(keyNameVersion[0], keyNameVersion[1]).toMulti()) // Multi<KeyBundle>
+		return getKeys(domain, expectedOps, expectedKtys, keyVersion -> true);
+	}
+
+	/**
+	 * <p>
+	 * Returns all valid keys which match searching criteria, fetching only the key versions which
+	 * satisfy the given filter.
+	 * </p>
+	 * 
+	 * @param domain        Represents who uses the key.
+	 * @param expectedOps   {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyOperation
+	 *                      JsonWebKeyOperation}
+	 * @param expectedKtys  {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyType
+	 *                      JsonWebKeyType}
+	 * @param versionFilter Filter evaluated on valid key versions before fetching them.
+	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyBundle KeyBundle}
+	 */
+	private Multi<KeyBundle> getKeys(String domain, List<String> expectedOps, List<String> expectedKtys, Predicate<KeyItem> versionFilter) {
+		Multi<KeyItem> keyVersions = transformToMulti(
+			getKeys() // Multi<KeyItem>
+				.filter(keyItem -> KeyUtils.doesDomainMatch(keyItem, domain))
+				.map(KeyUtils::getKeyName), // Multi<String> keyName
+			this::getKeyVersions) // Multi<KeyItem>
+			.filter(keyVersion -> canVersionMatch(keyVersion, domain))
+			.filter(keyVersion -> canTypeMatch(keyVersion, expectedKtys))
+			.filter(versionFilter);
+
+		return transformToMulti(
+			keyVersions,
+			keyVersion -> getKey(keyVersion).toMulti()) // Multi<KeyBundle>
 			.filter(keyBundle -> KeyUtils.doOpsMatch(keyBundle, expectedOps))
 			.filter(keyBundle -> KeyUtils.doesTypeMatch(keyBundle, expectedKtys));
 	}
@@ -206,28 +641,25 @@ public class AzureKeyVaultKeysExtReactiveService {
 	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyBundle KeyBundle}
 	 */
 	public Uni<Optional<KeyBundle>> getKeyWithLongestExp(String domain, List<String> expectedOps, List<String> expectedKtys) {
-		return getKeys(domain, expectedOps, expectedKtys)
+		AtomicLong longestExp = new AtomicLong(Long.MIN_VALUE);
+		Predicate<KeyItem> versionFilter = keyVersion -> {
+			if (skipShorterExp && keyVersion.getAttributes().getExp() <= longestExp.get()) {
+				Log.tracef("Key version can't have the longest expiration: kid = %s", keyVersion.getKid());
+				prunedGetKeyCalls.increment();
+				return false;
+			}
+			return true;
+		};
+
+		return getKeys(domain, expectedOps, expectedKtys, versionFilter)
+			.invoke(keyBundle -> longestExp.accumulateAndGet(keyBundle.getAttributes().getExp(), Math::max))
 			.collect()
-			.asList()
-			.map(keyList -> {
-				if (keyList.isEmpty()) {
+			.with(Collectors.maxBy(Comparator.comparingLong(keyBundle -> keyBundle.getAttributes().getExp())))
+			.invoke(keyBundle -> {
+				if (keyBundle.isEmpty()) {
 					Log.debug("No key found");
-					return Optional.empty();
 				} else {
-					Log.trace("Keys found");
-
-					Comparator<KeyBundle> comparator = Comparator.comparing(
-						new Function<KeyBundle, Long>() { // NOSONAR
-							@Override
-							public Long apply(KeyBundle t) {
-								return t.getAttributes().getExp();
-							}
-
-						})
-						.reversed();
-
-					keyList.sort(comparator);
-					return Optional.of(keyList.getFirst());
+					Log.trace("Key found");
 				}
 			});
 	}
@@ -242,11 +674,255 @@ public class AzureKeyVaultKeysExtReactiveService {
 	 *         DeletedKeyBundle}
 	 */
 	public Multi<DeletedKeyBundle> deleteExpiredKeys(String domain) {
-		return getKeys() // Multi<KeyItem>
-			.filter(keyItem -> KeyUtils.doesDomainMatch(keyItem, domain))
-			.filter(KeyUtils::isExpired)
-			.map(KeyUtils::getKeyName) // Multi<String> keyName
-			.onItem().transformToMultiAndConcatenate(keyName -> keysService.deleteKey(keyName).toMulti()); // Multi<DeletedKeyBundle>
+		return deleteExpiredKeys(domain, progress -> {
+		});
+	}
+
+	/**
+	 * <p>
+	 * Deletes all expired keys which match searching criteria, notifying the progress after each
+	 * deletion.
+	 * </p>
+	 * <p>
+	 * The failure of a deletion doesn't stop the others: the key isn't emitted and the failure is
+	 * counted.
+	 * </p>
+	 * 
+	 * @param domain           Represents who uses the key.
+	 * @param progressConsumer Consumer of the progress of this deletion.
+	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.DeletedKeyBundle
+	 *         DeletedKeyBundle}
+	 */
+	public Multi<DeletedKeyBundle> deleteExpiredKeys(String domain, Consumer<DeletionProgress> progressConsumer) {
+		return Multi.createFrom().deferred(() -> {
+			DeletionCounters counters = new DeletionCounters(progressConsumer);
+			return getKeys() // Multi<KeyItem>
+				.filter(keyItem -> KeyUtils.doesDomainMatch(keyItem, domain))
+				.filter(KeyUtils::isExpired)
+				.map(KeyUtils::getKeyName) // Multi<String> keyName
+				.onItem().transformToUni(keyName -> deleteExpiredKey(keyName, counters)).merge(deleteConcurrency); // Multi<DeletedKeyBundle>
+		});
 	}
 
-}
\ No newline at end of file
+	/**
+	 * <p>
+	 * Deletes an expired key recovering its failure.
+	 * </p>
+	 * 
+	 * @param keyName  The name of the key to delete.
+	 * @param counters Counters of the current deletion.
+	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.DeletedKeyBundle
+	 *         DeletedKeyBundle} or {@code null} if the deletion failed.
+	 */
+	private Uni<DeletedKeyBundle> deleteExpiredKey(String keyName, DeletionCounters counters) {
+		return deleteKey(keyName)
+			.invoke(() -> {
+				deletedKeys.increment();
+				counters.deleted(keyName);
+			})
+			.onFailure()
+			.recoverWithItem(failure -> {
+				if (isThrottled(failure)) {
+					Log.warnf("Deletion of %s has been throttled", keyName);
+					throttledDeletions.increment();
+					counters.throttled(keyName);
+				} else {
+					Log.errorf(failure, "Error deleting %s", keyName);
+					failedDeletions.increment();
+					counters.failed(keyName);
+				}
+				return null;
+			});
+	}
+
+	/**
+	 * <p>
+	 * Verifies if a failure, or one of its causes, is 429: when the retries are exhausted, the 429 can
+	 * be wrapped by another exception.
+	 * </p>
+	 * 
+	 * @param failure Failure to verify.
+	 * @return {@code true} if the failure is due to throttling.
+	 */
+	private static boolean isThrottled(Throwable failure) {
+		for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+			if (WebAppExcUtils.isTooManyRequests(cause)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of expired keys which have been deleted.
+	 * </p>
+	 * 
+	 * @return The number of deleted keys.
+	 */
+	public long getDeletedKeys() {
+		return deletedKeys.sum();
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of expired keys whose deletion failed for a reason other than throttling.
+	 * </p>
+	 * 
+	 * @return The number of failed deletions.
+	 */
+	public long getFailedDeletions() {
+		return failedDeletions.sum();
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of expired keys whose deletion failed because Azure Key Vault kept returning
+	 * 429.
+	 * </p>
+	 * 
+	 * @return The number of throttled deletions.
+	 */
+	public long getThrottledDeletions() {
+		return throttledDeletions.sum();
+	}
+
+	/**
+	 * <p>
+	 * Creates a new key by means of
+	 * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveService
+	 * AzureKeyVaultKeysReactiveService} and invalidates the cache.
+	 * </p>
+	 * 
+	 * @param keyName             The name for the new key. Regex pattern: ^[0-9a-zA-Z-]+$
+	 * @param keyCreateParameters {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyCreateParameters
+	 *                            KeyCreateParameters}
+	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyBundle KeyBundle}
+	 */
+	public Uni<KeyBundle> createKey(String keyName, KeyCreateParameters keyCreateParameters) {
+		return keysService.createKey(keyName, keyCreateParameters)
+			.invoke(() -> invalidateCache(keyName));
+	}
+
+	/**
+	 * <p>
+	 * Deletes a key by means of
+	 * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveService
+	 * AzureKeyVaultKeysReactiveService} and invalidates the cache.
+	 * </p>
+	 * 
+	 * @param keyName The name of the key to delete.
+	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.DeletedKeyBundle
+	 *         DeletedKeyBundle}
+	 */
+	public Uni<DeletedKeyBundle> deleteKey(String keyName) {
+		return keysService.deleteKey(keyName)
+			.invoke(() -> invalidateCache(keyName));
+	}
+
+	/**
+	 * <p>
+	 * Progress of the deletion of expired keys.
+	 * </p>
+	 * 
+	 * @param keyName   The name of the last processed key.
+	 * @param deleted   Number of deleted keys so far.
+	 * @param failed    Number of keys whose deletion failed so far for a reason other than throttling.
+	 * @param throttled Number of keys whose deletion failed so far because of throttling.
+	 */
+	public record DeletionProgress(String keyName, long deleted, long failed, long throttled) {
+	}
+
+	/**
+	 * <p>
+	 * Counters of a single deletion of expired keys.
+	 * </p>
+	 */
+	private static class DeletionCounters {
+		/**
+		 * <p>
+		 * Consumer of the progress.
+		 * </p>
+		 */
+		private final Consumer<DeletionProgress> progressConsumer;
+
+		/**
+		 * <p>
+		 * Number of deleted keys.
+		 * </p>
+		 */
+		private long deleted;
+
+		/**
+		 * <p>
+		 * Number of failed deletions.
+		 * </p>
+		 */
+		private long failed;
+
+		/**
+		 * <p>
+		 * Number of throttled deletions.
+		 * </p>
+		 */
+		private long throttled;
+
+		/**
+		 * <p>
+		 * Constructor.
+		 * </p>
+		 * 
+		 * @param progressConsumer Consumer of the progress.
+		 */
+		DeletionCounters(Consumer<DeletionProgress> progressConsumer) {
+			this.progressConsumer = progressConsumer;
+		}
+
+		/**
+		 * <p>
+		 * Counts a deleted key.
+		 * </p>
+		 * 
+		 * @param keyName The name of the key.
+		 */
+		synchronized void deleted(String keyName) {
+			deleted++;
+			report(keyName);
+		}
+
+		/**
+		 * <p>
+		 * Counts a failed deletion.
+		 * </p>
+		 * 
+		 * @param keyName The name of the key.
+		 */
+		synchronized void failed(String keyName) {
+			failed++;
+			report(keyName);
+		}
+
+		/**
+		 * <p>
+		 * Counts a throttled deletion.
+		 * </p>
+		 * 
+		 * @param keyName The name of the key.
+		 */
+		synchronized void throttled(String keyName) {
+			throttled++;
+			report(keyName);
+		}
+
+		/**
+		 * <p>
+		 * Notifies the progress.
+		 * </p>
+		 * 
+		 * @param keyName The name of the last processed key.
+		 */
+		private void report(String keyName) {
+			progressConsumer.accept(new DeletionProgress(keyName, deleted, failed, throttled));
+		}
+	}
+}
@@ -5,42 +5,79 @@
  */
 package it.pagopa.swclient.mil.azureservices.keyvault.keys.service;
 
+import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.AlgorithmParameters;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
+import java.security.InvalidParameterException;
 import java.security.KeyFactory;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.security.SecureRandom;
 import java.security.Signature;
 import java.security.SignatureException;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPrivateKeySpec;
+import java.security.spec.ECPublicKeySpec;
 import java.security.spec.InvalidKeySpecException;
+import java.security.spec.InvalidParameterSpecException;
 import java.security.spec.MGF1ParameterSpec;
 import java.security.spec.RSAKeyGenParameterSpec;
 import java.security.spec.RSAPrivateKeySpec;
 import java.security.spec.RSAPublicKeySpec;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.KeyGenerator;
 import javax.crypto.NoSuchPaddingException;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.OAEPParameterSpec;
 import javax.crypto.spec.PSource;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.quarkus.arc.properties.IfBuildProperty;
 import io.quarkus.logging.Log;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.DeletedKeyBundle;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKey;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyCurveName;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyEncryptionAlgorithm;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyOperation;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeySignatureAlgorithm;
@@ -54,7 +91,10 @@ import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyOperationResul
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeySignParameters;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyVerifyParameters;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyVerifyResult;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.util.PublicKeyCrypto;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.NotFoundException;
 
 /**
@@ -66,31 +106,121 @@ import jakarta.ws.rs.NotFoundException;
  * <p>
  * <strong>Don't use this in production!</strong>
  * </p>
+ * <p>
+ * Supported key types are RSA, EC (P-256, P-384 and P-521) and oct (AES 128, 192 and 256 bits).
+ * Supported signature algorithms are RS256, RS384, RS512, ES256, ES384 and ES512 (the value is the
+ * digest to sign, as Azure Key Vault does). Supported encryption algorithms
+ * are RSA-OAEP-256, A128GCM, A192GCM, A256GCM (the IV is generated by the emulator) and A128KW,
+ * A192KW, A256KW.
+ * </p>
+ * <p>
+ * The JCA keys are built from the stored JSON web keys on first use and kept until the key is
+ * deleted, while {@link Signature} and {@link Cipher} instances are reused per thread, so that the
+ * cost of the operations is the cost of the cryptography only.
+ * </p>
+ * <p>
+ * Key pairs are generated by means of the Mutiny worker pool, so that the caller thread isn't
+ * blocked. If {@code azure-key-vault-keys.emulator.key-pool.size} is greater than zero, for every
+ * combination of key type, size, public exponent and curve requested, that number of key pairs is generated
+ * in background and kept ready to be used by the next creations.
+ * </p>
+ * <p>
+ * Keys and key versions are listed in pages of {@code azure-key-vault-keys.get-keys.maxresults}
+ * items ordered by kid: when there are other items, the page has a {@code nextLink} with an opaque
+ * {@code $skiptoken}, which points after the last kid of the page, so the listing is consistent even
+ * if keys are created or deleted meanwhile.
+ * </p>
+ * <p>
+ * If {@code azure-key-vault-keys.emulator.persistence.file} is set, the stored keys are loaded from
+ * that JSON file at startup and a snapshot is written to it, in background, after every creation or
+ * deletion. The snapshot is written to a temporary file which then replaces the previous one, so the
+ * file is never left half-written.
+ * </p>
  * 
  * @author Antonio Tarricone
  */
 @ApplicationScoped
 @IfBuildProperty(name = "azure-key-vault-keys.emulator.enabled", stringValue = "true", enableIfMissing = false)
 public class AzureKeyVaultKeysReactiveServiceDev implements AzureKeyVaultKeysReactiveService {
+	/*
+	 * Stored keys: the key is the key name, the value contains the versions of the key in creation
+	 * order. The map of the versions is never modified after it has been stored (copy-on-write), so it
+	 * can be read without locking.
+	 */
+	private ConcurrentHashMap<String, LinkedHashMap<String, KeyBundle>> keyVault;
+
 	/*
 	 * 
 	 */
-	private HashMap<String, LinkedHashMap<String, KeyBundle>> keyVault;
+	private static final List<String> SUPPORTED_KEY_TYPES = List.of(
+		JsonWebKeyType.RSA,
+		JsonWebKeyType.EC,
+		JsonWebKeyType.OCT);
 
 	/*
 	 * 
 	 */
-	private static final List<String> SUPPORTED_KEY_TYPES = List.of(JsonWebKeyType.RSA);
+	private static final List<String> SUPPORTED_SIGN_ALGS = List.of(
+		JsonWebKeySignatureAlgorithm.RS256,
+		JsonWebKeySignatureAlgorithm.RS384,
+		JsonWebKeySignatureAlgorithm.RS512,
+		JsonWebKeySignatureAlgorithm.ES256,
+		JsonWebKeySignatureAlgorithm.ES384,
+		JsonWebKeySignatureAlgorithm.ES512);
 
 	/*
 	 * 
 	 */
-	private static final List<String> SUPPORTED_SIGN_ALGS = List.of(JsonWebKeySignatureAlgorithm.RS256);
+	private static final List<String> SUPPORTED_ENC_ALGS = List.of(
+		JsonWebKeyEncryptionAlgorithm.RSAOAEP256,
+		JsonWebKeyEncryptionAlgorithm.A128GCM,
+		JsonWebKeyEncryptionAlgorithm.A192GCM,
+		JsonWebKeyEncryptionAlgorithm.A256GCM,
+		JsonWebKeyEncryptionAlgorithm.A128KW,
+		JsonWebKeyEncryptionAlgorithm.A192KW,
+		JsonWebKeyEncryptionAlgorithm.A256KW);
+
+	/*
+	 * Standard names of the supported curves.
+	 */
+	private static final Map<String, String> CURVES = Map.of(
+		JsonWebKeyCurveName.P256, "secp256r1",
+		JsonWebKeyCurveName.P384, "secp384r1",
+		JsonWebKeyCurveName.P521, "secp521r1");
+
+	/*
+	 * Curves required by the ECDSA signature algorithms.
+	 */
+	private static final Map<String, String> SIGN_CURVES = Map.of(
+		JsonWebKeySignatureAlgorithm.ES256, JsonWebKeyCurveName.P256,
+		JsonWebKeySignatureAlgorithm.ES384, JsonWebKeyCurveName.P384,
+		JsonWebKeySignatureAlgorithm.ES512, JsonWebKeyCurveName.P521);
+
+	/*
+	 * Key lengths in bytes required by the AES encryption algorithms.
+	 */
+	private static final Map<String, Integer> AES_KEY_LENGTHS = Map.of(
+		JsonWebKeyEncryptionAlgorithm.A128GCM, 16,
+		JsonWebKeyEncryptionAlgorithm.A192GCM, 24,
+		JsonWebKeyEncryptionAlgorithm.A256GCM, 32,
+		JsonWebKeyEncryptionAlgorithm.A128KW, 16,
+		JsonWebKeyEncryptionAlgorithm.A192KW, 24,
+		JsonWebKeyEncryptionAlgorithm.A256KW, 32);
+
+	/*
+	 * Length in bits of the AES-GCM authentication tag.
+	 */
+	private static final int GCM_TAG_LENGTH = 128;
+
+	/*
+	 * Length in bytes of the AES-GCM initialization vector.
+	 */
+	private static final int GCM_IV_LENGTH = 12;
 
 	/*
 	 * 
 	 */
-	private static final List<String> SUPPORTED_ENC_ALGS = List.of(JsonWebKeyEncryptionAlgorithm.RSAOAEP256);
+	private static final SecureRandom RANDOM = new SecureRandom();
 	
 	/*
 	 * 
@@ -102,6 +232,81 @@ public class AzureKeyVaultKeysReactiveServiceDev implements AzureKeyVaultKeysRea
 	 */
 	private static final String UNSUPPORTED_BY_DEV_IMPL = "DEV implementation doesn't support %s";
 
+	/*
+	 * Signature instances per thread: the key is the JSON web signature algorithm.
+	 */
+	private static final Map<String, ThreadLocal<Signature>> SIGNATURES = Map.of(
+		JsonWebKeySignatureAlgorithm.RS256, ThreadLocal.withInitial(() -> newSignature("NONEwithRSA")),
+		JsonWebKeySignatureAlgorithm.RS384, ThreadLocal.withInitial(() -> newSignature("NONEwithRSA")),
+		JsonWebKeySignatureAlgorithm.RS512, ThreadLocal.withInitial(() -> newSignature("NONEwithRSA")),
+		JsonWebKeySignatureAlgorithm.ES256, ThreadLocal.withInitial(() -> newSignature("NONEwithECDSAinP1363Format")),
+		JsonWebKeySignatureAlgorithm.ES384, ThreadLocal.withInitial(() -> newSignature("NONEwithECDSAinP1363Format")),
+		JsonWebKeySignatureAlgorithm.ES512, ThreadLocal.withInitial(() -> newSignature("NONEwithECDSAinP1363Format")));
+
+	/*
+	 * Cipher instances per thread: the key is the JSON web encryption algorithm.
+	 */
+	private static final Map<String, ThreadLocal<Cipher>> CIPHERS = Map.of(
+		JsonWebKeyEncryptionAlgorithm.RSAOAEP256, ThreadLocal.withInitial(() -> newCipher("RSA/ECB/OAEPWithSHA-256AndMGF1Padding")),
+		JsonWebKeyEncryptionAlgorithm.A128GCM, ThreadLocal.withInitial(() -> newCipher("AES/GCM/NoPadding")),
+		JsonWebKeyEncryptionAlgorithm.A192GCM, ThreadLocal.withInitial(() -> newCipher("AES/GCM/NoPadding")),
+		JsonWebKeyEncryptionAlgorithm.A256GCM, ThreadLocal.withInitial(() -> newCipher("AES/GCM/NoPadding")),
+		JsonWebKeyEncryptionAlgorithm.A128KW, ThreadLocal.withInitial(() -> newCipher("AESWrap")),
+		JsonWebKeyEncryptionAlgorithm.A192KW, ThreadLocal.withInitial(() -> newCipher("AESWrap")),
+		JsonWebKeyEncryptionAlgorithm.A256KW, ThreadLocal.withInitial(() -> newCipher("AESWrap")));
+
+	/*
+	 * 
+	 */
+	private static final OAEPParameterSpec OAEP_SHA256 = new OAEPParameterSpec(
+		"SHA-256",
+		"MGF1",
+		MGF1ParameterSpec.SHA256,
+		PSource.PSpecified.DEFAULT);
+
+	/*
+	 * JCA keys of the stored keys, built on first use: the key is the kid.
+	 */
+	private final Map<String, JcaKeys> jcaKeys = new ConcurrentHashMap<>();
+
+	/*
+	 * Number of pre-generated key pairs to keep ready for every combination of key parameters.
+	 */
+	@ConfigProperty(name = "azure-key-vault-keys.emulator.key-pool.size", defaultValue = "0")
+	int keyPoolSize;
+
+	/*
+	 * Pre-generated key pairs.
+	 */
+	private final Map<KeyPairSpec, KeyPairPool> keyPairPools = new ConcurrentHashMap<>();
+
+	/*
+	 * Max number of items in a page of keys or key versions.
+	 */
+	@ConfigProperty(name = "azure-key-vault-keys.get-keys.maxresults", defaultValue = "25")
+	int maxResults = 25;
+
+	/*
+	 * 
+	 */
+	private static final String VAULT_URL = "https://myvault.vault.azure.net";
+
+	/*
+	 * 
+	 */
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	/*
+	 * File to load the keys from and to save the keys to.
+	 */
+	@ConfigProperty(name = "azure-key-vault-keys.emulator.persistence.file")
+	Optional<String> persistenceFile = Optional.empty();
+
+	/*
+	 * true if a snapshot of the keys has been requested but not yet started.
+	 */
+	private final AtomicBoolean snapshotPending = new AtomicBoolean();
+
 	/**
 	 * <p>
 	 * Constructor.
@@ -109,7 +314,415 @@ public class AzureKeyVaultKeysReactiveServiceDev implements AzureKeyVaultKeysRea
 	 */
 	AzureKeyVaultKeysReactiveServiceDev() {
 		Log.warn("**** AZURE KEY VAULT EMULATOR IN USE! BE SURE THAT THIS ISN'T PRODUCTION ENVIRONMENT! ****");
-		keyVault = new HashMap<>();
+		keyVault = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * <p>
+	 * Loads the keys from the persistence file, if any.
+	 * </p>
+	 */
+	@PostConstruct
+	void load() {
+		persistenceFile.map(Paths::get)
+			.filter(Files::exists)
+			.ifPresent(path -> {
+				try {
+					Map<String, List<KeyBundle>> keys = MAPPER.readValue(path.toFile(), new TypeReference<Map<String, List<KeyBundle>>>() {});
+					keys.forEach((keyName, keyBundles) -> {
+						LinkedHashMap<String, KeyBundle> keyVersions = new LinkedHashMap<>();
+						keyBundles.forEach(keyBundle -> {
+							String kid = keyBundle.getKey().getKid();
+							keyVersions.put(kid.substring(kid.lastIndexOf('/') + 1), keyBundle);
+						});
+						keyVault.put(keyName, keyVersions);
+					});
+					Log.infof("%d keys loaded from %s", keys.size(), path);
+				} catch (IOException e) {
+					Log.errorf(e, "Error loading keys from %s: the emulator starts empty", path);
+				}
+			});
+	}
+
+	/**
+	 * <p>
+	 * Requests a snapshot of the keys to the persistence file, if any. The snapshot is written by means
+	 * of the Mutiny worker pool and requests received meanwhile are coalesced.
+	 * </p>
+	 */
+	private void requestSnapshot() {
+		if (persistenceFile.isPresent() && snapshotPending.compareAndSet(false, true)) {
+			Infrastructure.getDefaultWorkerPool().execute(() -> {
+				snapshotPending.set(false);
+				writeSnapshot(Paths.get(persistenceFile.get()));
+			});
+		}
+	}
+
+	/**
+	 * <p>
+	 * Writes a snapshot of the keys to the given file, by means of a temporary file which then
+	 * replaces it.
+	 * </p>
+	 * 
+	 * @param path The persistence file.
+	 */
+	private synchronized void writeSnapshot(Path path) {
+		Map<String, List<KeyBundle>> keys = new LinkedHashMap<>();
+		keyVault.forEach((keyName, keyVersions) -> keys.put(keyName, List.copyOf(keyVersions.values())));
+		try {
+			Path dir = path.toAbsolutePath().getParent();
+			Files.createDirectories(dir);
+			Path temp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+			try {
+				MAPPER.writeValue(temp.toFile(), keys);
+				Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+			Log.debugf("%d keys saved to %s", keys.size(), path);
+		} catch (IOException e) {
+			Log.errorf(e, "Error saving keys to %s", path);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns a new instance of {@link Signature}.
+	 * </p>
+	 * 
+	 * @param algorithm The standard name of the algorithm.
+	 * @return {@link Signature}
+	 */
+	private static Signature newSignature(String algorithm) {
+		try {
+			return Signature.getInstance(algorithm);
+		} catch (NoSuchAlgorithmException e) {
+			Log.errorf(e, "Error creating signature");
+			throw new RuntimeException(e); // NOSONAR
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns a new instance of {@link Cipher}.
+	 * </p>
+	 * 
+	 * @param transformation The name of the transformation.
+	 * @return {@link Cipher}
+	 */
+	private static Cipher newCipher(String transformation) {
+		try {
+			return Cipher.getInstance(transformation);
+		} catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+			Log.errorf(e, "Error creating cipher");
+			throw new RuntimeException(e); // NOSONAR
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns a pre-generated key pair, if any, otherwise generates a new one by means of the worker
+	 * pool. In both cases, the pool of pre-generated key pairs is refilled in background.
+	 * </p>
+	 * 
+	 * @param generator The key pair generator already initialized.
+	 * @param spec      The parameters of the key pair.
+	 * @return {@link KeyPair}
+	 */
+	private Uni<KeyPair> takeKeyPair(KeyPairGenerator generator, KeyPairSpec spec) {
+		KeyPairPool pool = keyPairPools.computeIfAbsent(
+			spec,
+			name -> new KeyPairPool(new ConcurrentLinkedQueue<>(), new AtomicInteger()));
+
+		KeyPair pair = pool.pairs().poll();
+		if (pair != null) {
+			pool.size().decrementAndGet();
+		}
+
+		refill(pool, spec);
+
+		if (pair != null) {
+			Log.trace("Pre-generated key pair in use");
+			return Uni.createFrom().item(pair);
+		}
+
+		return Uni.createFrom()
+			.item(generator::generateKeyPair)
+			.runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+	}
+
+	/**
+	 * <p>
+	 * Generates in background the key pairs needed to fill the given pool.
+	 * </p>
+	 * 
+	 * @param pool The pool to fill.
+	 * @param spec The parameters of the key pairs.
+	 */
+	private void refill(KeyPairPool pool, KeyPairSpec spec) {
+		while (pool.size().incrementAndGet() <= keyPoolSize) {
+			Infrastructure.getDefaultWorkerPool().execute(() -> {
+				try {
+					pool.pairs().offer(spec.newGenerator().generateKeyPair());
+				} catch (NoSuchAlgorithmException | InvalidAlgorithmParameterException e) {
+					pool.size().decrementAndGet();
+					Log.errorf(e, "Exception while pre-generating key pair");
+				}
+			});
+		}
+		pool.size().decrementAndGet();
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of pre-generated key pairs ready to be used.
+	 * </p>
+	 * 
+	 * @return The number of pre-generated key pairs.
+	 */
+	int getPooledKeyPairs() {
+		return keyPairPools.values()
+			.stream()
+			.mapToInt(pool -> pool.pairs().size())
+			.sum();
+	}
+
+	/**
+	 * <p>
+	 * Returns a page of the given keys.
+	 * </p>
+	 * 
+	 * @param keyBundles The keys to list.
+	 * @param path       The path of the listing, used to build {@code nextLink}.
+	 * @param skiptoken  Token returned by the previous page or {@code null} for the first page.
+	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyListResult
+	 *         KeyListResult}
+	 */
+	private Uni<KeyListResult> getPage(Stream<KeyBundle> keyBundles, String path, String skiptoken) {
+		String lastKid;
+		if (skiptoken == null) {
+			lastKid = "";
+		} else {
+			try {
+				lastKid = new String(Base64.getUrlDecoder().decode(skiptoken), StandardCharsets.UTF_8);
+			} catch (IllegalArgumentException e) {
+				lastKid = null;
+			}
+			if (lastKid == null || !lastKid.startsWith(VAULT_URL + "/keys/")) {
+				final String message = "Invalid skiptoken: %s".formatted(skiptoken);
+				Log.warn(message);
+				return Uni.createFrom().failure(new BadRequestException(message));
+			}
+		}
+
+		final String after = lastKid;
+		int pageSize = Math.max(maxResults, 1);
+		List<KeyItem> keyItems = keyBundles
+			.filter(keyBundle -> keyBundle.getKey().getKid().compareTo(after) > 0)
+			.sorted(Comparator.comparing(keyBundle -> keyBundle.getKey().getKid()))
+			.limit(pageSize + 1L)
+			.map(keyBundle -> new KeyItem()
+				.setAttributes(keyBundle.getAttributes())
+				.setKid(keyBundle.getKey().getKid())
+				.setManaged(keyBundle.getManaged())
+				.setTags(keyBundle.getTags()))
+			.toList();
+
+		KeyListResult page = new KeyListResult();
+		if (keyItems.size() > pageSize) {
+			keyItems = keyItems.subList(0, pageSize);
+			String nextSkiptoken = Base64.getUrlEncoder()
+				.withoutPadding()
+				.encodeToString(keyItems.get(pageSize - 1).getKid().getBytes(StandardCharsets.UTF_8));
+			page.setNextLink("%s%s?api-version=7.4&$skiptoken=%s&maxresults=%d".formatted(VAULT_URL, path, nextSkiptoken, pageSize));
+		}
+
+		return Uni.createFrom().item(page.setValue(keyItems));
+	}
+
+	/**
+	 * <p>
+	 * Returns the JCA keys of the given JSON web key, converting it only the first time.
+	 * </p>
+	 * 
+	 * @param key {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKey JsonWebKey}
+	 * @return {@link JcaKeys}
+	 */
+	private JcaKeys getJcaKeys(JsonWebKey key) {
+		return jcaKeys.computeIfAbsent(key.getKid(), kid -> {
+			try {
+				switch (key.getKty()) {
+					case JsonWebKeyType.EC: {
+						AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+						parameters.init(new ECGenParameterSpec(CURVES.get(key.getCrv())));
+						ECParameterSpec spec = parameters.getParameterSpec(ECParameterSpec.class);
+						KeyFactory factory = KeyFactory.getInstance("EC");
+						PublicKey publicKey = factory.generatePublic(
+							new ECPublicKeySpec(
+								new ECPoint(
+									new BigInteger(1, key.getX()),
+									new BigInteger(1, key.getY())),
+								spec));
+						PrivateKey privateKey = factory.generatePrivate(
+							new ECPrivateKeySpec(
+								new BigInteger(1, key.getD()),
+								spec));
+						return new JcaKeys(publicKey, privateKey, null);
+					}
+					case JsonWebKeyType.OCT:
+						return new JcaKeys(null, null, new SecretKeySpec(key.getK(), "AES"));
+					default: {
+						KeyFactory factory = KeyFactory.getInstance("RSA");
+						BigInteger modulus = new BigInteger(1, key.getN());
+						PublicKey publicKey = factory.generatePublic(
+							new RSAPublicKeySpec(
+								modulus,
+								new BigInteger(1, key.getE())));
+						PrivateKey privateKey = factory.generatePrivate(
+							new RSAPrivateKeySpec(
+								modulus,
+								new BigInteger(1, key.getD())));
+						return new JcaKeys(publicKey, privateKey, null);
+					}
+				}
+			} catch (NoSuchAlgorithmException | InvalidKeySpecException | InvalidParameterSpecException e) {
+				Log.errorf(e, "Error converting key");
+				throw new RuntimeException(e); // NOSONAR
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Returns the AES key of the given JSON web key, verifying that its length matches the given
+	 * algorithm.
+	 * </p>
+	 * 
+	 * @param key {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKey JsonWebKey}
+	 * @param alg {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyEncryptionAlgorithm
+	 *            JsonWebKeyEncryptionAlgorithm}
+	 * @return {@link SecretKey}
+	 * @throws InvalidKeyException
+	 */
+	private SecretKey getSecretKey(JsonWebKey key, String alg) throws InvalidKeyException {
+		SecretKey secretKey = getJcaKeys(key).secretKey();
+		if (secretKey == null || secretKey.getEncoded().length != AES_KEY_LENGTHS.get(alg)) {
+			throw new InvalidKeyException("Key doesn't match %s".formatted(alg));
+		}
+		return secretKey;
+	}
+
+	/**
+	 * <p>
+	 * Generates the material of a new key.
+	 * </p>
+	 * 
+	 * @param keyCreateParameters {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyCreateParameters
+	 *                            KeyCreateParameters}
+	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKey JsonWebKey}
+	 *         with the key material only.
+	 * @throws NoSuchAlgorithmException
+	 * @throws InvalidAlgorithmParameterException
+	 */
+	private Uni<JsonWebKey> generateKey(KeyCreateParameters keyCreateParameters) throws NoSuchAlgorithmException, InvalidAlgorithmParameterException {
+		if (keyCreateParameters.getKty().equals(JsonWebKeyType.OCT)) {
+			KeyGenerator generator = KeyGenerator.getInstance("AES");
+			try {
+				generator.init(keyCreateParameters.getKeySize() != null ? keyCreateParameters.getKeySize() : 256);
+			} catch (InvalidParameterException e) {
+				throw new InvalidAlgorithmParameterException(e);
+			}
+			return Uni.createFrom().item(new JsonWebKey().setK(generator.generateKey().getEncoded()));
+		}
+
+		KeyPairSpec spec = KeyPairSpec.of(keyCreateParameters);
+		KeyPairGenerator generator = spec.newGenerator();
+		return takeKeyPair(generator, spec).map(pair -> {
+			if (pair.getPublic() instanceof ECPublicKey publicKey) {
+				int length = (publicKey.getParams().getCurve().getField().getFieldSize() + 7) / 8;
+				return new JsonWebKey()
+					.setCrv(spec.crv())
+					.setX(toUnsignedBytes(publicKey.getW().getAffineX(), length))
+					.setY(toUnsignedBytes(publicKey.getW().getAffineY(), length))
+					.setD(toUnsignedBytes(((ECPrivateKey) pair.getPrivate()).getS(), length));
+			}
+			RSAPublicKey publicKey = (RSAPublicKey) pair.getPublic();
+			BigInteger modulus = publicKey.getModulus();
+			BigInteger publicExponent = publicKey.getPublicExponent();
+			int length = (modulus.bitLength() + 7) / 8;
+			return new JsonWebKey()
+				.setCrv(keyCreateParameters.getCrv())
+				.setE(toUnsignedBytes(publicExponent, (publicExponent.bitLength() + 7) / 8))
+				.setN(toUnsignedBytes(modulus, length))
+				.setD(toUnsignedBytes(((RSAPrivateKey) pair.getPrivate()).getPrivateExponent(), length));
+		});
+	}
+
+	/**
+	 * <p>
+	 * Returns the unsigned big-endian representation of the given value with the given length, as
+	 * required by JSON web keys: {@link BigInteger#toByteArray()} adds a sign byte or drops the leading
+	 * zeros.
+	 * </p>
+	 * 
+	 * @param value  The value.
+	 * @param length The length in bytes.
+	 * @return The unsigned big-endian representation.
+	 */
+	private static byte[] toUnsignedBytes(BigInteger value, int length) {
+		byte[] bytes = value.toByteArray();
+		if (bytes.length == length) {
+			return bytes;
+		}
+		byte[] unsigned = new byte[length];
+		int copied = Math.min(bytes.length, length);
+		System.arraycopy(bytes, bytes.length - copied, unsigned, length - copied, copied);
+		return unsigned;
+	}
+
+	/**
+	 * <p>
+	 * Returns the input of {@link Signature} for the given digest: DigestInfo for RSASSA-PKCS1, because
+	 * {@code NONEwithRSA} doesn't hash, the digest itself for ECDSA.
+	 * </p>
+	 * 
+	 * @param alg    {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeySignatureAlgorithm
+	 *               JsonWebKeySignatureAlgorithm}
+	 * @param digest The digest.
+	 * @return The input of {@link Signature}.
+	 * @throws SignatureException if the digest doesn't match the algorithm.
+	 */
+	private static byte[] toSignatureInput(String alg, byte[] digest) throws SignatureException {
+		if (SIGN_CURVES.containsKey(alg)) {
+			return digest;
+		}
+		byte[] digestInfo = PublicKeyCrypto.toDigestInfo(alg, digest);
+		if (digestInfo == null) {
+			throw new SignatureException("Digest doesn't match %s".formatted(alg));
+		}
+		return digestInfo;
+	}
+
+	/**
+	 * <p>
+	 * Verifies that the given key can be used with the given signature algorithm: RSASSA-PKCS1
+	 * algorithms require an RSA key, ECDSA algorithms require an EC key on the matching curve.
+	 * </p>
+	 * 
+	 * @param key {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKey JsonWebKey}
+	 * @param alg {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeySignatureAlgorithm
+	 *            JsonWebKeySignatureAlgorithm}
+	 * @throws InvalidKeyException
+	 */
+	private static void verifySignKey(JsonWebKey key, String alg) throws InvalidKeyException {
+		String crv = SIGN_CURVES.get(alg);
+		boolean matches = crv == null
+			? JsonWebKeyType.RSA.equals(key.getKty())
+			: JsonWebKeyType.EC.equals(key.getKty()) && crv.equals(key.getCrv());
+		if (!matches) {
+			throw new InvalidKeyException("Key doesn't match %s".formatted(alg));
+		}
 	}
 
 	/**
@@ -123,51 +736,36 @@ public class AzureKeyVaultKeysReactiveServiceDev implements AzureKeyVaultKeysRea
 			 * Generate a new key.
 			 */
 			String keyVersion = UUID.randomUUID().toString().replace("-", "");
-			String kid = "https://myvault.vault.azure.net/keys/%s/%s".formatted(keyName, keyVersion);
+			String kid = VAULT_URL + "/keys/%s/%s".formatted(keyName, keyVersion);
 
 			try {
-				KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
-				if (keyCreateParameters.getPublicExponent() != null) {
-					generator.initialize(new RSAKeyGenParameterSpec(keyCreateParameters.getKeySize(), BigInteger.valueOf(keyCreateParameters.getPublicExponent())));
-				} else {
-					generator.initialize(keyCreateParameters.getKeySize());
-				}
+				return generateKey(keyCreateParameters).map(generatedKey -> {
+					JsonWebKey key = generatedKey
+						.setKeyOps(keyCreateParameters.getKeyOps())
+						.setKid(kid)
+						.setKty(keyCreateParameters.getKty());
 
-				KeyPair pair = generator.generateKeyPair();
-				RSAPublicKey publicKey = (RSAPublicKey) pair.getPublic();
-				RSAPrivateKey privateKey = (RSAPrivateKey) pair.getPrivate();
-
-				JsonWebKey key = new JsonWebKey()
-					.setCrv(keyCreateParameters.getCrv())
-					.setKeyOps(keyCreateParameters.getKeyOps())
-					.setKid(kid)
-					.setKty(keyCreateParameters.getKty())
-					.setE(publicKey.getPublicExponent().toByteArray())
-					.setN(publicKey.getModulus().toByteArray())
-					.setD(privateKey.getPrivateExponent().toByteArray());
-
-				KeyBundle keyBundle = new KeyBundle()
-					.setAttributes(keyCreateParameters.getAttributes())
-					.setKey(key)
-					.setReleasePolicy(keyCreateParameters.getReleasePolicy())
-					.setTags(keyCreateParameters.getTags());
-
-				/*
-				 * Store the generated key.
-				 */
-				synchronized (keyVault) {
-					LinkedHashMap<String, KeyBundle> keyVersions = keyVault.get(keyName);
-					if (keyVersions == null) {
-						keyVersions = new LinkedHashMap<>();
-						keyVault.put(keyName, keyVersions);
-					}
-					keyVersions.put(keyVersion, keyBundle);
-				}
+					KeyBundle keyBundle = new KeyBundle()
+						.setAttributes(keyCreateParameters.getAttributes())
+						.setKey(key)
+						.setReleasePolicy(keyCreateParameters.getReleasePolicy())
+						.setTags(keyCreateParameters.getTags());
 
-				/*
-				 * Return the generated key.
-				 */
-				return Uni.createFrom().item(keyBundle);
+					/*
+					 * Store the generated key.
+					 */
+					keyVault.compute(keyName, (name, keyVersions) -> {
+						LinkedHashMap<String, KeyBundle> newKeyVersions = keyVersions == null ? new LinkedHashMap<>() : new LinkedHashMap<>(keyVersions);
+						newKeyVersions.put(keyVersion, keyBundle);
+						return newKeyVersions;
+					});
+					requestSnapshot();
+
+					/*
+					 * Return the generated key.
+					 */
+					return keyBundle;
+				});
 			} catch (NoSuchAlgorithmException | InvalidAlgorithmParameterException e) {
 				Log.errorf(e, "Exception while creating key");
 				return Uni.createFrom().failure(e);
@@ -184,17 +782,7 @@ public class AzureKeyVaultKeysReactiveServiceDev implements AzureKeyVaultKeysRea
 	 */
 	@Override
 	public Uni<KeyListResult> getKeys() {
-		List<KeyItem> keyItems = new LinkedList<>();
-		synchronized (keyVault) {
-			keyVault.forEach(
-				(keyName, keyVersions) -> keyVersions.forEach(
-					(keyVersion, keyBundle) -> keyItems.add(new KeyItem()
-						.setAttributes(keyBundle.getAttributes())
-						.setKid(keyBundle.getKey().getKid())
-						.setManaged(keyBundle.getManaged())
-						.setTags(keyBundle.getTags()))));
-		}
-		return Uni.createFrom().item(new KeyListResult().setValue(keyItems));
+		return getKeys(null);
 	}
 
 	/**
@@ -202,9 +790,12 @@ public class AzureKeyVaultKeysReactiveServiceDev implements AzureKeyVaultKeysRea
 	 */
 	@Override
 	public Uni<KeyListResult> getKeys(String skiptoken) {
-		final String message = "DEV implementation doesn't support skiptoken";
-		Log.error(message);
-		return Uni.createFrom().failure(new UnsupportedOperationException(message));
+		return getPage(
+			keyVault.values()
+				.stream()
+				.flatMap(keyVersions -> keyVersions.values().stream()),
+			"/keys",
+			skiptoken);
 	}
 
 	/**
@@ -213,22 +804,20 @@ public class AzureKeyVaultKeysReactiveServiceDev implements AzureKeyVaultKeysRea
 	 */
 	@Override
 	public Uni<KeyBundle> getKey(String keyName, String keyVersion) {
-		synchronized (keyVault) {
-			LinkedHashMap<String, KeyBundle> keyVersions = keyVault.get(keyName);
-			if (keyVersions != null) {
-				KeyBundle keyBundle = keyVersions.get(keyVersion);
-				if (keyBundle != null) {
-					return Uni.createFrom().item(keyBundle);
-				} else {
-					final String message = "Key with name %s and version %s doesn't exist".formatted(keyName, keyVersion);
-					Log.warnf(message);
-					return Uni.createFrom().failure(new NotFoundException(message));
-				}
+		LinkedHashMap<String, KeyBundle> keyVersions = keyVault.get(keyName);
+		if (keyVersions != null) {
+			KeyBundle keyBundle = keyVersions.get(keyVersion);
+			if (keyBundle != null) {
+				return Uni.createFrom().item(keyBundle);
 			} else {
 				final String message = "Key with name %s and version %s doesn't exist".formatted(keyName, keyVersion);
 				Log.warnf(message);
 				return Uni.createFrom().failure(new NotFoundException(message));
 			}
+		} else {
+			final String message = "Key with name %s and version %s doesn't exist".formatted(keyName, keyVersion);
+			Log.warnf(message);
+			return Uni.createFrom().failure(new NotFoundException(message));
 		}
 	}
 
@@ -237,23 +826,7 @@ public class AzureKeyVaultKeysReactiveServiceDev implements AzureKeyVaultKeysRea
 	 */
 	@Override
 	public Uni<KeyListResult> getKeyVersions(String keyName) {
-		synchronized (keyVault) {
-			HashMap<String, KeyBundle> keyVersions = keyVault.get(keyName);
-			if (keyVersions != null) {
-				List<KeyItem> keyItems = new LinkedList<>();
-				keyVersions.forEach((keyVersion, keyBundle) -> keyItems.add(
-					new KeyItem()
-						.setAttributes(keyBundle.getAttributes())
-						.setKid(keyBundle.getKey().getKid())
-						.setManaged(keyBundle.getManaged())
-						.setTags(keyBundle.getTags())));
-				return Uni.createFrom().item(new KeyListResult().setValue(keyItems));
-			} else {
-				final String message = "Key with name %s doesn't exist".formatted(keyName);
-				Log.warnf(message);
-				return Uni.createFrom().failure(new NotFoundException(message));
-			}
-		}
+		return getKeyVersions(keyName, null);
 	}
 
 	/**
@@ -262,9 +835,17 @@ public class AzureKeyVaultKeysReactiveServiceDev implements AzureKeyVaultKeysRea
 	 */
 	@Override
 	public Uni<KeyListResult> getKeyVersions(String keyName, String skiptoken) {
-		final String message = "DEV implementation doesn't support skiptoken";
-		Log.error(message);
-		return Uni.createFrom().failure(new UnsupportedOperationException(message));
+		LinkedHashMap<String, KeyBundle> keyVersions = keyVault.get(keyName);
+		if (keyVersions != null) {
+			return getPage(
+				keyVersions.values().stream(),
+				"/keys/%s/versions".formatted(keyName),
+				skiptoken);
+		} else {
+			final String message = "Key with name %s doesn't exist".formatted(keyName);
+			Log.warnf(message);
+			return Uni.createFrom().failure(new NotFoundException(message));
+		}
 	}
 
 	/**
@@ -279,21 +860,16 @@ public class AzureKeyVaultKeysReactiveServiceDev implements AzureKeyVaultKeysRea
 				.map(key -> {
 					if (key.getKeyOps().contains(JsonWebKeyOperation.SIGN)) {
 						try {
-							KeyFactory factory = KeyFactory.getInstance("RSA");
-							PrivateKey privateKey = factory.generatePrivate(
-								new RSAPrivateKeySpec(
-									new BigInteger(1, key.getN()),
-									new BigInteger(1, key.getD())));
-
-							Signature signer = Signature.getInstance("SHA256withRSA");
-							signer.initSign(privateKey);
-							signer.update(keySignParameters.getValue());
+							verifySignKey(key, keySignParameters.getAlg());
+							Signature signer = SIGNATURES.get(keySignParameters.getAlg()).get();
+							signer.initSign(getJcaKeys(key).privateKey());
+							signer.update(toSignatureInput(keySignParameters.getAlg(), keySignParameters.getValue()));
 							byte[] signature = signer.sign();
 
 							return new KeyOperationResult()
 								.setKid(key.getKid())
 								.setValue(signature);
-						} catch (NoSuchAlgorithmException | InvalidKeySpecException | InvalidKeyException | SignatureException e) {
+						} catch (InvalidKeyException | SignatureException e) {
 							Log.errorf(e, "Signing error");
 							throw new RuntimeException(e); // NOSONAR
 						}
@@ -322,21 +898,16 @@ public class AzureKeyVaultKeysReactiveServiceDev implements AzureKeyVaultKeysRea
 				.map(key -> {
 					if (key.getKeyOps().contains(JsonWebKeyOperation.VERIFY)) {
 						try {
-							KeyFactory factory = KeyFactory.getInstance("RSA");
-							PublicKey publicKey = factory.generatePublic(
-								new RSAPublicKeySpec(
-									new BigInteger(1, key.getN()),
-									new BigInteger(1, key.getE())));
-
-							Signature verifier = Signature.getInstance("SHA256withRSA");
-							verifier.initVerify(publicKey);
-							verifier.update(keyVerifyParameters.getDigest());
+							verifySignKey(key, keyVerifyParameters.getAlg());
+							Signature verifier = SIGNATURES.get(keyVerifyParameters.getAlg()).get();
+							verifier.initVerify(getJcaKeys(key).publicKey());
+							verifier.update(toSignatureInput(keyVerifyParameters.getAlg(), keyVerifyParameters.getDigest()));
 							boolean isVerificationOk = verifier.verify(keyVerifyParameters.getValue());
 
 							return new KeyVerifyResult().setValue(isVerificationOk);
 						} catch (SignatureException e) {
 							return new KeyVerifyResult().setValue(false);
-						} catch (NoSuchAlgorithmException | InvalidKeySpecException | InvalidKeyException e) {
+						} catch (InvalidKeyException e) {
 							Log.errorf(e, "Verifing error");
 							throw new RuntimeException(e); // NOSONAR
 						}
@@ -365,25 +936,34 @@ public class AzureKeyVaultKeysReactiveServiceDev implements AzureKeyVaultKeysRea
 				.map(key -> {
 					if (key.getKeyOps().contains(JsonWebKeyOperation.ENCRYPT)) {
 						try {
-							KeyFactory factory = KeyFactory.getInstance("RSA");
-							PublicKey publicKey = factory.generatePublic(
-								new RSAPublicKeySpec(
-									new BigInteger(1, key.getN()),
-									new BigInteger(1, key.getE())));
-
-							Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPWithSHA-256AndMGF1Padding");
-							OAEPParameterSpec param = new OAEPParameterSpec(
-								"SHA-256",
-								"MGF1",
-								MGF1ParameterSpec.SHA256,
-								PSource.PSpecified.DEFAULT);
-							cipher.init(Cipher.ENCRYPT_MODE, publicKey, param);
-							byte[] encrypted = cipher.doFinal(keyOperationParameters.getValue());
+							String alg = keyOperationParameters.getAlg();
+							Cipher cipher = CIPHERS.get(alg).get();
+							KeyOperationResult result = new KeyOperationResult()
+								.setKid(key.getKid());
 
-							return new KeyOperationResult()
-								.setKid(key.getKid())
-								.setValue(encrypted);
-						} catch (NoSuchAlgorithmException | InvalidKeySpecException | InvalidKeyException | NoSuchPaddingException | IllegalBlockSizeException | BadPaddingException | InvalidAlgorithmParameterException e) {
+							if (alg.equals(JsonWebKeyEncryptionAlgorithm.RSAOAEP256)) {
+								cipher.init(Cipher.ENCRYPT_MODE, getJcaKeys(key).publicKey(), OAEP_SHA256);
+								result.setValue(cipher.doFinal(keyOperationParameters.getValue()));
+							} else if (cipher.getAlgorithm().startsWith("AES/GCM")) {
+								byte[] iv = new byte[GCM_IV_LENGTH];
+								RANDOM.nextBytes(iv);
+								cipher.init(Cipher.ENCRYPT_MODE, getSecretKey(key, alg), new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+								if (keyOperationParameters.getAad() != null) {
+									cipher.updateAAD(keyOperationParameters.getAad());
+								}
+								byte[] encrypted = cipher.doFinal(keyOperationParameters.getValue());
+								int tagOffset = encrypted.length - GCM_TAG_LENGTH / 8;
+								result.setValue(Arrays.copyOfRange(encrypted, 0, tagOffset))
+									.setTag(Arrays.copyOfRange(encrypted, tagOffset, encrypted.length))
+									.setIv(iv)
+									.setAad(keyOperationParameters.getAad());
+							} else {
+								cipher.init(Cipher.ENCRYPT_MODE, getSecretKey(key, alg));
+								result.setValue(cipher.doFinal(keyOperationParameters.getValue()));
+							}
+
+							return result;
+						} catch (InvalidKeyException | IllegalBlockSizeException | BadPaddingException | InvalidAlgorithmParameterException e) {
 							Log.errorf(e, "Encrypting error");
 							throw new RuntimeException(e); // NOSONAR
 						}
@@ -412,25 +992,35 @@ public class AzureKeyVaultKeysReactiveServiceDev implements AzureKeyVaultKeysRea
 				.map(key -> {
 					if (key.getKeyOps().contains(JsonWebKeyOperation.DECRYPT)) {
 						try {
-							KeyFactory factory = KeyFactory.getInstance("RSA");
-							PrivateKey privateKey = factory.generatePrivate(
-								new RSAPrivateKeySpec(
-									new BigInteger(1, key.getN()),
-									new BigInteger(1, key.getD())));
-
-							Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPWithSHA-256AndMGF1Padding");
-							OAEPParameterSpec param = new OAEPParameterSpec(
-								"SHA-256",
-								"MGF1",
-								MGF1ParameterSpec.SHA256,
-								PSource.PSpecified.DEFAULT);
-							cipher.init(Cipher.DECRYPT_MODE, privateKey, param);
-							byte[] decrypted = cipher.doFinal(keyOperationParameters.getValue());
+							String alg = keyOperationParameters.getAlg();
+							Cipher cipher = CIPHERS.get(alg).get();
+							byte[] decrypted;
+
+							if (alg.equals(JsonWebKeyEncryptionAlgorithm.RSAOAEP256)) {
+								cipher.init(Cipher.DECRYPT_MODE, getJcaKeys(key).privateKey(), OAEP_SHA256);
+								decrypted = cipher.doFinal(keyOperationParameters.getValue());
+							} else if (cipher.getAlgorithm().startsWith("AES/GCM")) {
+								if (keyOperationParameters.getIv() == null || keyOperationParameters.getTag() == null) {
+									throw new InvalidAlgorithmParameterException("iv and tag are required by %s".formatted(alg));
+								}
+								cipher.init(Cipher.DECRYPT_MODE, getSecretKey(key, alg), new GCMParameterSpec(GCM_TAG_LENGTH, keyOperationParameters.getIv()));
+								if (keyOperationParameters.getAad() != null) {
+									cipher.updateAAD(keyOperationParameters.getAad());
+								}
+								byte[] value = keyOperationParameters.getValue();
+								byte[] tag = keyOperationParameters.getTag();
+								byte[] encrypted = Arrays.copyOf(value, value.length + tag.length);
+								System.arraycopy(tag, 0, encrypted, value.length, tag.length);
+								decrypted = cipher.doFinal(encrypted);
+							} else {
+								cipher.init(Cipher.DECRYPT_MODE, getSecretKey(key, alg));
+								decrypted = cipher.doFinal(keyOperationParameters.getValue());
+							}
 
 							return new KeyOperationResult()
 								.setKid(key.getKid())
 								.setValue(decrypted);
-						} catch (NoSuchAlgorithmException | InvalidKeySpecException | InvalidKeyException | NoSuchPaddingException | IllegalBlockSizeException | BadPaddingException | InvalidAlgorithmParameterException e) {
+						} catch (InvalidKeyException | IllegalBlockSizeException | BadPaddingException | InvalidAlgorithmParameterException e) {
 							Log.errorf(e, "Decrypting error");
 							throw new RuntimeException(e); // NOSONAR
 						}
@@ -452,21 +1042,21 @@ public class AzureKeyVaultKeysReactiveServiceDev implements AzureKeyVaultKeysRea
 	 */
 	@Override
 	public Uni<DeletedKeyBundle> deleteKey(String keyName) {
-		synchronized (keyVault) {
-			LinkedHashMap<String, KeyBundle> keyVersions = keyVault.remove(keyName);
-			if (keyVersions != null) {
-				KeyBundle keyBundle = keyVersions.lastEntry().getValue();
-				return Uni.createFrom().item(new DeletedKeyBundle()
-					.setAttributes(keyBundle.getAttributes())
-					.setKey(keyBundle.getKey())
-					.setManaged(keyBundle.getManaged())
-					.setReleasePolicy(keyBundle.getReleasePolicy())
-					.setTags(keyBundle.getTags()));
-			} else {
-				final String message = "Key with name %s doesn't exist".formatted(keyName);
-				Log.warnf(message);
-				return Uni.createFrom().failure(new NotFoundException(message));
-			}
+		LinkedHashMap<String, KeyBundle> keyVersions = keyVault.remove(keyName);
+		if (keyVersions != null) {
+			keyVersions.values().forEach(deleted -> jcaKeys.remove(deleted.getKey().getKid()));
+			requestSnapshot();
+			KeyBundle keyBundle = keyVersions.lastEntry().getValue();
+			return Uni.createFrom().item(new DeletedKeyBundle()
+				.setAttributes(keyBundle.getAttributes())
+				.setKey(keyBundle.getKey())
+				.setManaged(keyBundle.getManaged())
+				.setReleasePolicy(keyBundle.getReleasePolicy())
+				.setTags(keyBundle.getTags()));
+		} else {
+			final String message = "Key with name %s doesn't exist".formatted(keyName);
+			Log.warnf(message);
+			return Uni.createFrom().failure(new NotFoundException(message));
 		}
 	}
 
@@ -478,5 +1068,96 @@ public class AzureKeyVaultKeysReactiveServiceDev implements AzureKeyVaultKeysRea
 	void reset() {
 		if (keyVault != null)
 			keyVault.clear();
+		jcaKeys.clear();
+	}
+
+	/**
+	 * <p>
+	 * Pool of pre-generated key pairs.
+	 * </p>
+	 * 
+	 * @param pairs Key pairs ready to be used.
+	 * @param size  Number of key pairs ready to be used or being generated.
+	 */
+	private record KeyPairPool(Queue<KeyPair> pairs, AtomicInteger size) {
+	}
+
+	/**
+	 * <p>
+	 * Parameters of a key pair.
+	 * </p>
+	 * 
+	 * @param kty            {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyType
+	 *                       JsonWebKeyType}
+	 * @param keySize        The key size in bits (RSA only).
+	 * @param publicExponent The public exponent or {@code null} to use the default one (RSA only).
+	 * @param crv            {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyCurveName
+	 *                       JsonWebKeyCurveName} (EC only).
+	 */
+	private record KeyPairSpec(String kty, Integer keySize, Integer publicExponent, String crv) {
+		/**
+		 * <p>
+		 * Returns the parameters of the key pair to create.
+		 * </p>
+		 * 
+		 * @param keyCreateParameters {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyCreateParameters
+		 *                            KeyCreateParameters}
+		 * @return {@link KeyPairSpec}
+		 */
+		static KeyPairSpec of(KeyCreateParameters keyCreateParameters) {
+			if (keyCreateParameters.getKty().equals(JsonWebKeyType.EC)) {
+				return new KeyPairSpec(
+					JsonWebKeyType.EC,
+					null,
+					null,
+					keyCreateParameters.getCrv() != null ? keyCreateParameters.getCrv() : JsonWebKeyCurveName.P256);
+			}
+			return new KeyPairSpec(
+				JsonWebKeyType.RSA,
+				keyCreateParameters.getKeySize(),
+				keyCreateParameters.getPublicExponent(),
+				null);
+		}
+
+		/**
+		 * <p>
+		 * Returns a new key pair generator initialized with these parameters.
+		 * </p>
+		 * 
+		 * @return {@link KeyPairGenerator}
+		 * @throws NoSuchAlgorithmException
+		 * @throws InvalidAlgorithmParameterException
+		 */
+		KeyPairGenerator newGenerator() throws NoSuchAlgorithmException, InvalidAlgorithmParameterException {
+			if (kty.equals(JsonWebKeyType.EC)) {
+				String curve = CURVES.get(crv);
+				if (curve == null) {
+					throw new InvalidAlgorithmParameterException("Unsupported curve: %s".formatted(crv));
+				}
+				KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+				generator.initialize(new ECGenParameterSpec(curve));
+				return generator;
+			}
+
+			KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+			if (publicExponent != null) {
+				generator.initialize(new RSAKeyGenParameterSpec(keySize, BigInteger.valueOf(publicExponent)));
+			} else {
+				generator.initialize(keySize);
+			}
+			return generator;
+		}
+	}
+
+	/**
+	 * <p>
+	 * JCA keys built from a JSON web key.
+	 * </p>
+	 * 
+	 * @param publicKey  The public key (RSA and EC only).
+	 * @param privateKey The private key (RSA and EC only).
+	 * @param secretKey  The secret key (oct only).
+	 */
+	private record JcaKeys(PublicKey publicKey, PrivateKey privateKey, SecretKey secretKey) {
 	}
 }
@@ -5,8 +5,13 @@
  */
 package it.pagopa.swclient.mil.azureservices.keyvault.keys.service;
 
-import java.lang.reflect.Method;
+import java.security.PublicKey;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
@@ -17,6 +22,8 @@ import io.smallrye.mutiny.Uni;
 import it.pagopa.swclient.mil.azureservices.identity.bean.Scope;
 import it.pagopa.swclient.mil.azureservices.identity.service.AzureIdentityReactiveService;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.DeletedKeyBundle;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyOperation;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyAttributes;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyBundle;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyCreateParameters;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyListResult;
@@ -26,11 +33,13 @@ import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeySignParameters
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyVerifyParameters;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyVerifyResult;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.client.AzureKeyVaultKeysReactiveClient;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.util.PublicKeyCrypto;
+import it.pagopa.swclient.mil.azureservices.util.RateLimiter;
+import it.pagopa.swclient.mil.azureservices.util.RetryPolicy;
 import it.pagopa.swclient.mil.azureservices.util.WebAppExcUtils;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jakarta.interceptor.AroundInvoke;
-import jakarta.interceptor.InvocationContext;
 
 /**
  * <p>
@@ -46,9 +55,25 @@ import jakarta.interceptor.InvocationContext;
  * (by means of
  * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.client.AzureKeyVaultKeysReactiveClient
  * AzureKeyVaultKeysReactiveClient});</li>
- * <li>the retrying with exponential back-off in case of 429 from Azure Key Vault.</li>
+ * <li>the retrying in case of 429, 5xx or connection failures from Azure Key Vault, waiting for the
+ * time suggested by {@code Retry-After} or, if it is missing, with exponential back-off, within a
+ * retry budget (create and delete, which aren't idempotent, are retried only on 429, 503 and
+ * connection failures);</li>
+ * <li>the client-side rate limiting, to stay under the Azure Key Vault service limits;</li>
+ * <li>the local execution of verify and encrypt operations, which need the public part of the key
+ * only.</li>
  * </ul>
  * <p>
+ * The local execution is disabled by default: it is enabled by
+ * {@code azure-key-vault-keys.local-crypto.cache.ttl} greater than zero. In this case the public
+ * parts of the keys are retrieved once, by means of getKey, converted in JCA public keys and kept in
+ * memory for the given time-to-live (in milliseconds; the max number of keys is controlled by
+ * {@code azure-key-vault-keys.local-crypto.cache.max-size}). The operation is executed locally only
+ * if a specific version of the key is requested, the key is enabled, it allows the operation and,
+ * for encrypt, it is active and not expired. Unsupported key types or algorithms are delegated to
+ * Azure Key Vault.
+ * </p>
+ * <p>
  * To use this service, the {@code application.properties} should have the definition of the
  * following properties to control the back-off policy:
  * </p>
@@ -56,8 +81,18 @@ import jakarta.interceptor.InvocationContext;
  * <li>{@code azure-key-vault-keys.backoff.initial-duration}</li>
  * <li>{@code azure-key-vault-keys.backoff.jitter}</li>
  * <li>{@code azure-key-vault-keys.backoff.number-of-attempts}</li>
+ * <li>{@code azure-key-vault-keys.backoff.retry-budget.ratio}</li>
+ * <li>{@code azure-key-vault-keys.backoff.retry-budget.max}</li>
  * </ul>
  * <p>
+ * The client-side rate limiting is disabled by default: it is enabled by
+ * {@code azure-key-vault-keys.rate-limit.transactions} greater than zero, which is the max number
+ * of transactions in {@code azure-key-vault-keys.rate-limit.period} milliseconds (default 10000, as
+ * the Azure Key Vault service limits are documented). The requests over the limit are delayed,
+ * without blocking any thread, and when Azure Key Vault returns 429 with {@code Retry-After} all
+ * the requests are paused for that time.
+ * </p>
+ * <p>
  * <strong>For production profile, be sure that {@code application.properties} has
  * {@code azure-key-vault-keys.emulator.enabled=false} or
  * {@code azure-key-vault-keys.emulator.enabled} isn't present at all, otherwise the Azure Key Vault
@@ -75,7 +110,7 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 	 * </p>
 	 */
 	@ConfigProperty(name = "azure-key-vault-keys.backoff.initial-duration", defaultValue = "1")
-	int initialBackoff;
+	int initialBackoff = 1;
 
 	/**
 	 * <p>
@@ -83,7 +118,7 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 	 * </p>
 	 */
 	@ConfigProperty(name = "azure-key-vault-keys.backoff.jitter", defaultValue = "0.2")
-	double jitter;
+	double jitter = 0.2;
 
 	/**
 	 * <p>
@@ -91,7 +126,23 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 	 * </p>
 	 */
 	@ConfigProperty(name = "azure-key-vault-keys.backoff.number-of-attempts", defaultValue = "3")
-	int numberOfAttempts;
+	int numberOfAttempts = 3;
+
+	/**
+	 * <p>
+	 * Fraction of retry that every operation adds to the retry budget.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-key-vault-keys.backoff.retry-budget.ratio", defaultValue = "0.2")
+	double retryBudgetRatio = 0.2;
+
+	/**
+	 * <p>
+	 * Max number of retries saved in the retry budget: 0 means unlimited budget.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-key-vault-keys.backoff.retry-budget.max", defaultValue = "100")
+	int retryBudgetMax = 100;
 
 	/**
 	 * <p>
@@ -116,10 +167,43 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 
 	/**
 	 * <p>
-	 * Cached access token.
+	 * Public keys to execute verify and encrypt locally. The key is {@code <key name>/<key version>}.
+	 * </p>
+	 * <p>
+	 * Every entry memoizes the retrieval of the key, so that concurrent operations with the same key
+	 * share one request to Azure Key Vault and a failed retrieval isn't repeated before the entry
+	 * expires.
+	 * </p>
+	 */
+	private final ConcurrentHashMap<String, MemoizedKey> localKeys = new ConcurrentHashMap<>();
+
+	/**
+	 * <p>
+	 * Time-to-live in nanoseconds of the public keys used locally.
 	 * </p>
 	 */
-	private String accessTokenValue;
+	private final long localKeysTtl;
+
+	/**
+	 * <p>
+	 * Max number of public keys used locally.
+	 * </p>
+	 */
+	private final int localKeysSize;
+
+	/**
+	 * <p>
+	 * Client-side rate limiter.
+	 * </p>
+	 */
+	private final RateLimiter rateLimiter;
+
+	/**
+	 * <p>
+	 * Retry policy of all operations.
+	 * </p>
+	 */
+	private RetryPolicy retryPolicy;
 
 	/**
 	 * <p>
@@ -128,34 +212,44 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 	 * 
 	 * @param identityService {@link it.pagopa.swclient.mil.azureservices.identity.service.AzureIdentityReactiveService
 	 *                        AzureIdentityReactiveService}
+	 * @param localKeysTtl    Time-to-live in milliseconds of the public keys used locally, 0 disables
+	 *                        the local execution of verify and encrypt.
+	 * @param localKeysSize   Max number of public keys used locally.
+	 * @param rateLimit       Max number of transactions in the rate limit period, 0 disables the
+	 *                        client-side rate limiting.
+	 * @param rateLimitPeriod Rate limit period in milliseconds.
 	 */
 	@Inject
-	AzureKeyVaultKeysReactiveServiceImpl(AzureIdentityReactiveService identityService) {
+	AzureKeyVaultKeysReactiveServiceImpl(AzureIdentityReactiveService identityService,
+		@ConfigProperty(name = "azure-key-vault-keys.local-crypto.cache.ttl", defaultValue = "0") long localKeysTtl,
+		@ConfigProperty(name = "azure-key-vault-keys.local-crypto.cache.max-size", defaultValue = "1000") int localKeysSize,
+		@ConfigProperty(name = "azure-key-vault-keys.rate-limit.transactions", defaultValue = "0") int rateLimit,
+		@ConfigProperty(name = "azure-key-vault-keys.rate-limit.period", defaultValue = "10000") long rateLimitPeriod) {
 		this.identityService = identityService;
+		this.localKeysTtl = localKeysTtl * 1_000_000L;
+		this.localKeysSize = localKeysSize;
+		rateLimiter = new RateLimiter(rateLimit, rateLimitPeriod);
 	}
 
 	/**
 	 * <p>
-	 * Transforms {@link java.lang.Exception Exception} in {@link java.lang.RuntimeException
-	 * RuntimeException} to allow handling with Mutiny.
+	 * Builds the retry policy with the configured back-off.
 	 * </p>
-	 * 
-	 * @param context {@link jakarta.interceptor.InvocationContext InvocationContext}
-	 * @return Object returned by the target method.
-	 */
-	@SuppressWarnings("unchecked")
-	private Uni<Object> proceed(InvocationContext context) {
-		Log.trace("Proceed");
-		try {
-			return (Uni<Object>) (context.proceed());
-		} catch (Exception e) {
-			throw new RuntimeException(e); // NOSONAR
-		}
+	 */
+	@PostConstruct
+	void init() {
+		retryPolicy = new RetryPolicy(
+			Duration.ofSeconds(initialBackoff),
+			jitter,
+			numberOfAttempts,
+			retryBudgetRatio,
+			retryBudgetMax,
+			rateLimiter);
 	}
 
 	/**
 	 * <p>
-	 * This method decorates the others:
+	 * This method decorates the operations of this service:
 	 * </p>
 	 * <ul>
 	 * <li>retrieving the access token from Microsoft Entra ID by means of
@@ -163,31 +257,119 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 	 * AzureIdentityReactiveService};</li>
 	 * <li>renewing of the access token from Microsoft Entra ID the invoked target API returns 401 or
 	 * 403;</li>
-	 * <li>retrying with exponential back-off in case of 429 from Azure Key Vault.</li>
+	 * <li>retrying in case of transient failures and delaying the requests over the client-side rate
+	 * limit, by means of {@link it.pagopa.swclient.mil.azureservices.util.RetryPolicy RetryPolicy}.</li>
 	 * </ul>
+	 * <p>
+	 * The access token is passed to the operation, so that every invocation carries its own one.
+	 * </p>
 	 * 
-	 * @param context {@link jakarta.interceptor.InvocationContext InvocationContext}
-	 * @return Object returned by the target method.
-	 */
-	@AroundInvoke
-	Object authenticate(InvocationContext context) {
-		Method method = context.getMethod();
-		Log.tracef("Around invoke: %s.%s", context.getTarget().getClass().getSimpleName(), method.getName());
-		return identityService.getAccessToken(Scope.VAULT)
-			.invoke(accessToken -> accessTokenValue = accessToken.getValue())
-			.chain(() -> proceed(context))
+	 * @param <T>        Type of the item emitted by the operation.
+	 * @param operation  Operation to invoke with the access token value.
+	 * @param idempotent {@code true} if the operation can be executed more times with the same effect.
+	 * @return The item emitted by the operation.
+	 */
+	private <T> Uni<T> authenticate(Function<String, Uni<T>> operation, boolean idempotent) {
+		return retryPolicy.apply(() -> identityService.getAccessToken(Scope.VAULT)
+			.chain(accessToken -> operation.apply(accessToken.getValue()))
 			.onFailure(WebAppExcUtils::isUnauthorizedOrForbidden) // On 401 or 403...
 			.recoverWithUni(f -> {
 				Log.debug("Recovering");
 				return identityService.getNewAccessTokenAndCacheIt(Scope.VAULT) // ...get a new access token...
-					.invoke(accessToken -> accessTokenValue = accessToken.getValue())
-					.chain(() -> proceed(context));
-			}) // ...and retry!
-			.onFailure(WebAppExcUtils::isTooManyRequests) // On 429...
-			.retry() // ...retry...
-			.withBackOff(Duration.ofSeconds(initialBackoff)) // ...with backoff...
-			.withJitter(jitter)
-			.atMost(numberOfAttempts);
+					.chain(accessToken -> operation.apply(accessToken.getValue()));
+			}), idempotent); // ...and retry!
+	}
+
+	/**
+	 * <p>
+	 * Decorates an idempotent operation of this service.
+	 * </p>
+	 * 
+	 * @param <T>       Type of the item emitted by the operation.
+	 * @param operation Operation to invoke with the access token value.
+	 * @return The item emitted by the operation.
+	 * @see #authenticate(Function, boolean)
+	 */
+	private <T> Uni<T> authenticate(Function<String, Uni<T>> operation) {
+		return authenticate(operation, true);
+	}
+
+	/**
+	 * <p>
+	 * Returns the public part of the key to execute the given operation locally.
+	 * </p>
+	 * 
+	 * @param keyName    The name of the key.
+	 * @param keyVersion The version of the key.
+	 * @param operation  {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyOperation
+	 *                   JsonWebKeyOperation}
+	 * @return {@link LocalKey} or {@code null} if the operation must be executed by Azure Key Vault.
+	 */
+	private Uni<LocalKey> getLocalKey(String keyName, String keyVersion, String operation) {
+		if (localKeysTtl <= 0 || keyVersion == null || keyVersion.isBlank()) {
+			return Uni.createFrom().nullItem();
+		}
+
+		String cacheKey = keyName + "/" + keyVersion;
+		long now = System.nanoTime();
+		MemoizedKey memoizedKey = localKeys.get(cacheKey);
+		if (memoizedKey == null || memoizedKey.isExpired(now)) {
+			memoizedKey = localKeys.compute(cacheKey, (k, v) -> v == null || v.isExpired(now)
+				? new MemoizedKey(retrieveLocalKey(keyName, keyVersion, cacheKey), now + localKeysTtl)
+				: v);
+			if (localKeys.size() > localKeysSize) {
+				evictLocalKeys(now);
+			}
+		}
+
+		return memoizedKey.localKey()
+			.map(k -> k.allows(operation) ? k : null);
+	}
+
+	/**
+	 * <p>
+	 * Retrieves the public part of the key from Azure Key Vault, once for all subscribers.
+	 * </p>
+	 * <p>
+	 * The failure is recovered with a key which doesn't allow any operation, so that it is cached too
+	 * and the operations are delegated to Azure Key Vault until it expires.
+	 * </p>
+	 * 
+	 * @param keyName    The name of the key.
+	 * @param keyVersion The version of the key.
+	 * @param cacheKey   The key of the cache.
+	 * @return {@link LocalKey}
+	 */
+	private Uni<LocalKey> retrieveLocalKey(String keyName, String keyVersion, String cacheKey) {
+		return getKey(keyName, keyVersion)
+			.map(keyBundle -> new LocalKey(
+				keyBundle.getKey().getKid(),
+				PublicKeyCrypto.toPublicKey(keyBundle.getKey()),
+				keyBundle.getKey().getKeyOps(),
+				keyBundle.getAttributes()))
+			.onFailure()
+			.recoverWithItem(f -> {
+				Log.warnf(f, "Public key of %s can't be retrieved: operation will be delegated to Azure Key Vault", cacheKey);
+				return new LocalKey(null, null, null, null);
+			})
+			.memoize()
+			.indefinitely();
+	}
+
+	/**
+	 * <p>
+	 * Removes the expired public keys and, if they are still too many, the exceeding ones.
+	 * </p>
+	 * 
+	 * @param now Current value of {@link System#nanoTime()}.
+	 */
+	private void evictLocalKeys(long now) {
+		localKeys.values().removeIf(k -> k.isExpired(now));
+		Iterator<String> iterator = localKeys.keySet().iterator();
+		while (localKeys.size() > localKeysSize && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
 	}
 
 	/**
@@ -201,7 +383,7 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyBundle KeyBundle}
 	 */
 	public Uni<KeyBundle> createKey(String keyName, KeyCreateParameters keyCreateParameters) {
-		return keysClient.createKey(accessTokenValue, keyName, keyCreateParameters);
+		return authenticate(accessToken -> keysClient.createKey(accessToken, keyName, keyCreateParameters), false);
 	}
 
 	/**
@@ -214,7 +396,7 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 	 */
 	public Uni<KeyListResult> getKeys() {
 		Log.trace("Get keys");
-		return keysClient.getKeys(accessTokenValue);
+		return authenticate(accessToken -> keysClient.getKeys(accessToken));
 	}
 
 	/**
@@ -227,7 +409,7 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 	 *         KeyListResult}
 	 */
 	public Uni<KeyListResult> getKeys(String skiptoken) {
-		return keysClient.getKeys(accessTokenValue, skiptoken);
+		return authenticate(accessToken -> keysClient.getKeys(accessToken, skiptoken));
 	}
 
 	/**
@@ -240,7 +422,7 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 	 * @return {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyBundle KeyBundle}
 	 */
 	public Uni<KeyBundle> getKey(String keyName, String keyVersion) {
-		return keysClient.getKey(accessTokenValue, keyName, keyVersion);
+		return authenticate(accessToken -> keysClient.getKey(accessToken, keyName, keyVersion));
 	}
 
 	/**
@@ -253,7 +435,7 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 	 *         KeyListResult}
 	 */
 	public Uni<KeyListResult> getKeyVersions(String keyName) {
-		return keysClient.getKeyVersions(accessTokenValue, keyName);
+		return authenticate(accessToken -> keysClient.getKeyVersions(accessToken, keyName));
 	}
 
 	/**
@@ -267,7 +449,7 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 	 *         KeyListResult}
 	 */
 	public Uni<KeyListResult> getKeyVersions(String keyName, String skiptoken) {
-		return keysClient.getKeyVersions(accessTokenValue, keyName, skiptoken);
+		return authenticate(accessToken -> keysClient.getKeyVersions(accessToken, keyName, skiptoken));
 	}
 
 	/**
@@ -283,7 +465,7 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 	 *         KeyOperationResult}
 	 */
 	public Uni<KeyOperationResult> sign(String keyName, String keyVersion, KeySignParameters keySignParameters) {
-		return keysClient.sign(accessTokenValue, keyName, keyVersion, keySignParameters);
+		return authenticate(accessToken -> keysClient.sign(accessToken, keyName, keyVersion, keySignParameters));
 	}
 
 	/**
@@ -299,7 +481,17 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 	 *         KeyVerifyResult}
 	 */
 	public Uni<KeyVerifyResult> verify(String keyName, String keyVersion, KeyVerifyParameters keyVerifyParameters) {
-		return keysClient.verify(accessTokenValue, keyName, keyVersion, keyVerifyParameters);
+		return getLocalKey(keyName, keyVersion, JsonWebKeyOperation.VERIFY)
+			.map(localKey -> localKey == null ? null
+				: PublicKeyCrypto.verify(
+					localKey.publicKey(),
+					keyVerifyParameters.getAlg(),
+					keyVerifyParameters.getDigest(),
+					keyVerifyParameters.getValue()))
+			.map(value -> value == null ? null : new KeyVerifyResult().setValue(value))
+			.onItem()
+			.ifNull()
+			.switchTo(() -> authenticate(accessToken -> keysClient.verify(accessToken, keyName, keyVersion, keyVerifyParameters)));
 	}
 
 	/**
@@ -315,7 +507,23 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 	 *         KeyOperationResult}
 	 */
 	public Uni<KeyOperationResult> encrypt(String keyName, String keyVersion, KeyOperationParameters keyOperationParameters) {
-		return keysClient.encrypt(accessTokenValue, keyName, keyVersion, keyOperationParameters);
+		return getLocalKey(keyName, keyVersion, JsonWebKeyOperation.ENCRYPT)
+			.map(localKey -> {
+				if (localKey == null) {
+					return null;
+				}
+				byte[] value = PublicKeyCrypto.encrypt(
+					localKey.publicKey(),
+					keyOperationParameters.getAlg(),
+					keyOperationParameters.getValue());
+				return value == null ? null
+					: new KeyOperationResult()
+						.setKid(localKey.kid())
+						.setValue(value);
+			})
+			.onItem()
+			.ifNull()
+			.switchTo(() -> authenticate(accessToken -> keysClient.encrypt(accessToken, keyName, keyVersion, keyOperationParameters)));
 	}
 
 	/**
@@ -331,7 +539,7 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 	 *         KeyOperationResult}
 	 */
 	public Uni<KeyOperationResult> decrypt(String keyName, String keyVersion, KeyOperationParameters keyOperationParameters) {
-		return keysClient.decrypt(accessTokenValue, keyName, keyVersion, keyOperationParameters);
+		return authenticate(accessToken -> keysClient.decrypt(accessToken, keyName, keyVersion, keyOperationParameters));
 	}
 
 	/**
@@ -345,6 +553,67 @@ public class AzureKeyVaultKeysReactiveServiceImpl implements AzureKeyVaultKeysRe
 	 */
 	public Uni<DeletedKeyBundle> deleteKey(String keyName) {
 		Log.tracef("Delete key %s", keyName);
-		return keysClient.deleteKey(accessTokenValue, keyName);
+		return authenticate(accessToken -> keysClient.deleteKey(accessToken, keyName), false);
+	}
+
+	/**
+	 * <p>
+	 * Memoized retrieval of a public key.
+	 * </p>
+	 * 
+	 * @param localKey  Retrieval of the key.
+	 * @param expiresAt Value of {@link System#nanoTime()} when the key expires.
+	 */
+	private record MemoizedKey(Uni<LocalKey> localKey, long expiresAt) {
+		/**
+		 * <p>
+		 * Returns {@code true} if the key is expired.
+		 * </p>
+		 * 
+		 * @param now Current value of {@link System#nanoTime()}.
+		 * @return {@code true} if the key is expired, {@code false} otherwise.
+		 */
+		boolean isExpired(long now) {
+			return expiresAt - now <= 0;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Public part of a key to execute operations locally.
+	 * </p>
+	 * 
+	 * @param kid        Key identifier.
+	 * @param publicKey  The public key or {@code null} if it can't be used locally.
+	 * @param keyOps     Operations allowed by the key.
+	 * @param attributes Attributes of the key.
+	 */
+	private record LocalKey(String kid, PublicKey publicKey, List<String> keyOps, KeyAttributes attributes) {
+		/**
+		 * <p>
+		 * Returns {@code true} if the key can be used locally for the given operation.
+		 * </p>
+		 * 
+		 * @param operation {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyOperation
+		 *                  JsonWebKeyOperation}
+		 * @return {@code true} if the key can be used locally, {@code false} otherwise.
+		 */
+		boolean allows(String operation) {
+			if (publicKey == null
+				|| keyOps == null
+				|| !keyOps.contains(operation)
+				|| attributes == null
+				|| !Boolean.TRUE.equals(attributes.getEnabled())) {
+				return false;
+			}
+
+			if (operation.equals(JsonWebKeyOperation.ENCRYPT)) {
+				long now = Instant.now().getEpochSecond();
+				return (attributes.getNbf() == null || attributes.getNbf() <= now)
+					&& (attributes.getExp() == null || attributes.getExp() > now);
+			}
+
+			return true;
+		}
 	}
-}
\ No newline at end of file
+}
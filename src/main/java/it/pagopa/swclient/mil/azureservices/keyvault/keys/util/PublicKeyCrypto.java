@@ -0,0 +1,310 @@
+/*
+ * PublicKeyCrypto.java
+ *
+ * 17 ott 2026
+ */
+package it.pagopa.swclient.mil.azureservices.keyvault.keys.util;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+
+import io.quarkus.logging.Log;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKey;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyCurveName;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyEncryptionAlgorithm;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeySignatureAlgorithm;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyType;
+
+/**
+ * <p>
+ * Provides the operations which need the public part of a key only (verify and encrypt), so that
+ * they can be executed in-process with the same semantics of Azure Key Vault.
+ * </p>
+ * <p>
+ * Every method returns {@code null} when the operation can't be executed locally (unsupported key
+ * type, curve or algorithm, or unexpected parameters): in this case the operation must be executed
+ * by Azure Key Vault.
+ * </p>
+ * <p>
+ * Since Azure Key Vault signs digests, the JCA providers are used with pre-hashed input: RSASSA-PKCS1
+ * by means of {@code NONEwithRSA} over DigestInfo, ECDSA by means of
+ * {@code NONEwithECDSAinP1363Format}. RSASSA-PSS with pre-hashed input isn't available in the JDK,
+ * so PS256, PS384 and PS512 are always executed by Azure Key Vault.
+ * </p>
+ * 
+ * @author Antonio Tarricone
+ */
+public final class PublicKeyCrypto {
+	/**
+	 * <p>
+	 * DER encoding of DigestInfo without digest for SHA-256.
+	 * </p>
+	 */
+	private static final byte[] SHA256_DIGEST_INFO = {
+		0x30, 0x31, 0x30, 0x0d, 0x06, 0x09, 0x60, (byte) 0x86, 0x48, 0x01, 0x65, 0x03, 0x04, 0x02, 0x01, 0x05, 0x00, 0x04, 0x20
+	};
+
+	/**
+	 * <p>
+	 * DER encoding of DigestInfo without digest for SHA-384.
+	 * </p>
+	 */
+	private static final byte[] SHA384_DIGEST_INFO = {
+		0x30, 0x41, 0x30, 0x0d, 0x06, 0x09, 0x60, (byte) 0x86, 0x48, 0x01, 0x65, 0x03, 0x04, 0x02, 0x02, 0x05, 0x00, 0x04, 0x30
+	};
+
+	/**
+	 * <p>
+	 * DER encoding of DigestInfo without digest for SHA-512.
+	 * </p>
+	 */
+	private static final byte[] SHA512_DIGEST_INFO = {
+		0x30, 0x51, 0x30, 0x0d, 0x06, 0x09, 0x60, (byte) 0x86, 0x48, 0x01, 0x65, 0x03, 0x04, 0x02, 0x03, 0x05, 0x00, 0x04, 0x40
+	};
+
+	/**
+	 * <p>
+	 * Standard names of the supported curves.
+	 * </p>
+	 */
+	private static final Map<String, String> CURVES = Map.of(
+		JsonWebKeyCurveName.P256, "secp256r1",
+		JsonWebKeyCurveName.P384, "secp384r1",
+		JsonWebKeyCurveName.P521, "secp521r1");
+
+	/**
+	 * <p>
+	 * This class has static methods only.
+	 * </p>
+	 */
+	private PublicKeyCrypto() {
+		// This class has static methods only.
+	}
+
+	/**
+	 * <p>
+	 * Converts the public part of a JSON web key in a JCA public key.
+	 * </p>
+	 * 
+	 * @param key {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKey JsonWebKey}
+	 * @return The public key or {@code null} if the key type or the curve isn't supported.
+	 */
+	public static PublicKey toPublicKey(JsonWebKey key) {
+		try {
+			switch (String.valueOf(key.getKty())) {
+				case JsonWebKeyType.RSA, JsonWebKeyType.RSA_HSM:
+					return KeyFactory.getInstance("RSA").generatePublic(
+						new RSAPublicKeySpec(
+							new BigInteger(1, key.getN()),
+							new BigInteger(1, key.getE())));
+				case JsonWebKeyType.EC, JsonWebKeyType.EC_HSM:
+					String curve = CURVES.get(key.getCrv());
+					if (curve == null) {
+						Log.debugf("Unsupported curve: %s", key.getCrv());
+						return null;
+					}
+					AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+					parameters.init(new ECGenParameterSpec(curve));
+					return KeyFactory.getInstance("EC").generatePublic(
+						new ECPublicKeySpec(
+							new ECPoint(
+								new BigInteger(1, key.getX()),
+								new BigInteger(1, key.getY())),
+							parameters.getParameterSpec(ECParameterSpec.class)));
+				default:
+					Log.debugf("Unsupported key type: %s", key.getKty());
+					return null;
+			}
+		} catch (GeneralSecurityException | RuntimeException e) {
+			Log.warnf(e, "Public key of %s can't be used locally", key.getKid());
+			return null;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Verifies a signature of a digest.
+	 * </p>
+	 * 
+	 * @param publicKey The public key.
+	 * @param alg       {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeySignatureAlgorithm
+	 *                  JsonWebKeySignatureAlgorithm}
+	 * @param digest    The digest used for signing.
+	 * @param signature The signature to be verified.
+	 * @return The result of the verification or {@code null} if it can't be executed locally.
+	 */
+	public static Boolean verify(PublicKey publicKey, String alg, byte[] digest, byte[] signature) {
+		String jcaAlg;
+		byte[] input;
+		switch (String.valueOf(alg)) {
+			case JsonWebKeySignatureAlgorithm.RS256, JsonWebKeySignatureAlgorithm.RS384, JsonWebKeySignatureAlgorithm.RS512:
+				jcaAlg = "NONEwithRSA";
+				input = toDigestInfo(alg, digest);
+				break;
+			case JsonWebKeySignatureAlgorithm.ES256:
+				jcaAlg = "NONEwithECDSAinP1363Format";
+				input = ecDigest(publicKey, digest, 32, 256);
+				break;
+			case JsonWebKeySignatureAlgorithm.ES384:
+				jcaAlg = "NONEwithECDSAinP1363Format";
+				input = ecDigest(publicKey, digest, 48, 384);
+				break;
+			case JsonWebKeySignatureAlgorithm.ES512:
+				jcaAlg = "NONEwithECDSAinP1363Format";
+				input = ecDigest(publicKey, digest, 64, 521);
+				break;
+			default:
+				Log.debugf("Unsupported signature algorithm: %s", alg);
+				return null; // NOSONAR
+		}
+
+		if (input == null || (jcaAlg.equals("NONEwithRSA") && !(publicKey instanceof RSAPublicKey))) {
+			Log.debug("Key or digest don't match the signature algorithm");
+			return null; // NOSONAR
+		}
+
+		try {
+			Signature verifier = Signature.getInstance(jcaAlg);
+			verifier.initVerify(publicKey);
+			verifier.update(input);
+			return verifier.verify(signature);
+		} catch (SignatureException e) {
+			Log.debug("Malformed signature");
+			return false;
+		} catch (GeneralSecurityException e) {
+			Log.warnf(e, "Signature can't be verified locally");
+			return null; // NOSONAR
+		}
+	}
+
+	/**
+	 * <p>
+	 * Encrypts a sequence of bytes.
+	 * </p>
+	 * 
+	 * @param publicKey The public key.
+	 * @param alg       {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyEncryptionAlgorithm
+	 *                  JsonWebKeyEncryptionAlgorithm}
+	 * @param value     The bytes to encrypt.
+	 * @return The encrypted bytes or {@code null} if the encryption can't be executed locally.
+	 */
+	public static byte[] encrypt(PublicKey publicKey, String alg, byte[] value) {
+		if (!(publicKey instanceof RSAPublicKey)) {
+			Log.debug("Encryption requires an RSA key");
+			return null; // NOSONAR
+		}
+
+		try {
+			Cipher cipher;
+			switch (String.valueOf(alg)) {
+				case JsonWebKeyEncryptionAlgorithm.RSAOAEP:
+					cipher = Cipher.getInstance("RSA/ECB/OAEPWithSHA-1AndMGF1Padding");
+					cipher.init(Cipher.ENCRYPT_MODE, publicKey);
+					break;
+				case JsonWebKeyEncryptionAlgorithm.RSAOAEP256:
+					cipher = Cipher.getInstance("RSA/ECB/OAEPPadding");
+					cipher.init(Cipher.ENCRYPT_MODE, publicKey, new OAEPParameterSpec(
+						"SHA-256",
+						"MGF1",
+						MGF1ParameterSpec.SHA256,
+						PSource.PSpecified.DEFAULT));
+					break;
+				case JsonWebKeyEncryptionAlgorithm.RSA1_5:
+					cipher = Cipher.getInstance("RSA/ECB/PKCS1Padding");
+					cipher.init(Cipher.ENCRYPT_MODE, publicKey);
+					break;
+				default:
+					Log.debugf("Unsupported encryption algorithm: %s", alg);
+					return null; // NOSONAR
+			}
+			return cipher.doFinal(value);
+		} catch (GeneralSecurityException e) {
+			Log.warnf(e, "Data can't be encrypted locally");
+			return null; // NOSONAR
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns the DER encoding of DigestInfo for the given digest, that is the input of
+	 * {@code NONEwithRSA} to sign or verify a digest with RS256, RS384 or RS512.
+	 * </p>
+	 * 
+	 * @param alg    {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeySignatureAlgorithm
+	 *               JsonWebKeySignatureAlgorithm}
+	 * @param digest The digest.
+	 * @return The DER encoding of DigestInfo or {@code null} if the algorithm isn't RSASSA-PKCS1 or the
+	 *         digest hasn't the expected length.
+	 */
+	public static byte[] toDigestInfo(String alg, byte[] digest) {
+		switch (String.valueOf(alg)) {
+			case JsonWebKeySignatureAlgorithm.RS256:
+				return digestInfo(SHA256_DIGEST_INFO, digest, 32);
+			case JsonWebKeySignatureAlgorithm.RS384:
+				return digestInfo(SHA384_DIGEST_INFO, digest, 48);
+			case JsonWebKeySignatureAlgorithm.RS512:
+				return digestInfo(SHA512_DIGEST_INFO, digest, 64);
+			default:
+				return null; // NOSONAR
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns the DER encoding of DigestInfo for the given digest.
+	 * </p>
+	 * 
+	 * @param prefix DER encoding of DigestInfo without digest.
+	 * @param digest The digest.
+	 * @param length Expected length of the digest.
+	 * @return The DER encoding of DigestInfo or {@code null} if the digest hasn't the expected length.
+	 */
+	private static byte[] digestInfo(byte[] prefix, byte[] digest, int length) {
+		if (digest == null || digest.length != length) {
+			return null; // NOSONAR
+		}
+		byte[] digestInfo = new byte[prefix.length + length];
+		System.arraycopy(prefix, 0, digestInfo, 0, prefix.length);
+		System.arraycopy(digest, 0, digestInfo, prefix.length, length);
+		return digestInfo;
+	}
+
+	/**
+	 * <p>
+	 * Returns the digest if it and the key match the ECDSA algorithm.
+	 * </p>
+	 * 
+	 * @param publicKey The public key.
+	 * @param digest    The digest.
+	 * @param length    Expected length of the digest.
+	 * @param fieldSize Expected field size of the curve.
+	 * @return The digest or {@code null} if it or the key don't match the algorithm.
+	 */
+	private static byte[] ecDigest(PublicKey publicKey, byte[] digest, int length, int fieldSize) {
+		if (digest == null
+			|| digest.length != length
+			|| !(publicKey instanceof ECPublicKey ecPublicKey)
+			|| ecPublicKey.getParams().getCurve().getField().getFieldSize() != fieldSize) {
+			return null; // NOSONAR
+		}
+		return digest;
+	}
+}
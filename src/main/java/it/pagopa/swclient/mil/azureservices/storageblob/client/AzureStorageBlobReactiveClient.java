@@ -8,11 +8,17 @@ package it.pagopa.swclient.mil.azureservices.storageblob.client;
 import org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 
+import io.quarkus.rest.client.reactive.ClientQueryParam;
 import io.quarkus.rest.client.reactive.NotBody;
 import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
 /**
@@ -181,4 +187,935 @@ public interface AzureStorageBlobReactiveClient {
 		@PathParam("segment5") String segment5,
 		@PathParam("segment6") String segment6,
 		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Returns a blob with the given file name if it has been modified.
+	 * </p>
+	 * 
+	 * @param accessToken     The value of access token got by Microsoft Entra ID.
+	 * @param ifNoneMatch     ETag of the cached copy of the file or {@code null}.
+	 * @param ifModifiedSince Last-Modified of the cached copy of the file or {@code null}.
+	 * @param filename        The name of file to retrieve.
+	 * @return If the file has been modified, the response body contains it, otherwise the status is
+	 *         304.
+	 */
+	@Path("{filename}")
+	@GET
+	Uni<Response> getBlobIfModified(
+		@NotBody String accessToken,
+		@HeaderParam("If-None-Match") String ifNoneMatch,
+		@HeaderParam("If-Modified-Since") String ifModifiedSince,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Returns a blob with the given file name and path if it has been modified.
+	 * </p>
+	 * 
+	 * @param accessToken     The value of access token got by Microsoft Entra ID.
+	 * @param ifNoneMatch     ETag of the cached copy of the file or {@code null}.
+	 * @param ifModifiedSince Last-Modified of the cached copy of the file or {@code null}.
+	 * @param segment1        Segment of the path to file to retrieve.
+	 * @param filename        The name of file to retrieve.
+	 * @return If the file has been modified, the response body contains it, otherwise the status is
+	 *         304.
+	 */
+	@Path("{segment1}/{filename}")
+	@GET
+	Uni<Response> getBlobIfModified(
+		@NotBody String accessToken,
+		@HeaderParam("If-None-Match") String ifNoneMatch,
+		@HeaderParam("If-Modified-Since") String ifModifiedSince,
+		@PathParam("segment1") String segment1,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Returns a blob with the given file name and path if it has been modified.
+	 * </p>
+	 * 
+	 * @param accessToken     The value of access token got by Microsoft Entra ID.
+	 * @param ifNoneMatch     ETag of the cached copy of the file or {@code null}.
+	 * @param ifModifiedSince Last-Modified of the cached copy of the file or {@code null}.
+	 * @param segment1        Segment of the path to file to retrieve.
+	 * @param segment2        Segment of the path to file to retrieve.
+	 * @param filename        The name of file to retrieve.
+	 * @return If the file has been modified, the response body contains it, otherwise the status is
+	 *         304.
+	 */
+	@Path("{segment1}/{segment2}/{filename}")
+	@GET
+	Uni<Response> getBlobIfModified(
+		@NotBody String accessToken,
+		@HeaderParam("If-None-Match") String ifNoneMatch,
+		@HeaderParam("If-Modified-Since") String ifModifiedSince,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Returns a blob with the given file name and path if it has been modified.
+	 * </p>
+	 * 
+	 * @param accessToken     The value of access token got by Microsoft Entra ID.
+	 * @param ifNoneMatch     ETag of the cached copy of the file or {@code null}.
+	 * @param ifModifiedSince Last-Modified of the cached copy of the file or {@code null}.
+	 * @param segment1        Segment of the path to file to retrieve.
+	 * @param segment2        Segment of the path to file to retrieve.
+	 * @param segment3        Segment of the path to file to retrieve.
+	 * @param filename        The name of file to retrieve.
+	 * @return If the file has been modified, the response body contains it, otherwise the status is
+	 *         304.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{filename}")
+	@GET
+	Uni<Response> getBlobIfModified(
+		@NotBody String accessToken,
+		@HeaderParam("If-None-Match") String ifNoneMatch,
+		@HeaderParam("If-Modified-Since") String ifModifiedSince,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Returns a blob with the given file name and path if it has been modified.
+	 * </p>
+	 * 
+	 * @param accessToken     The value of access token got by Microsoft Entra ID.
+	 * @param ifNoneMatch     ETag of the cached copy of the file or {@code null}.
+	 * @param ifModifiedSince Last-Modified of the cached copy of the file or {@code null}.
+	 * @param segment1        Segment of the path to file to retrieve.
+	 * @param segment2        Segment of the path to file to retrieve.
+	 * @param segment3        Segment of the path to file to retrieve.
+	 * @param segment4        Segment of the path to file to retrieve.
+	 * @param filename        The name of file to retrieve.
+	 * @return If the file has been modified, the response body contains it, otherwise the status is
+	 *         304.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{segment4}/{filename}")
+	@GET
+	Uni<Response> getBlobIfModified(
+		@NotBody String accessToken,
+		@HeaderParam("If-None-Match") String ifNoneMatch,
+		@HeaderParam("If-Modified-Since") String ifModifiedSince,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("segment4") String segment4,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Returns a blob with the given file name and path if it has been modified.
+	 * </p>
+	 * 
+	 * @param accessToken     The value of access token got by Microsoft Entra ID.
+	 * @param ifNoneMatch     ETag of the cached copy of the file or {@code null}.
+	 * @param ifModifiedSince Last-Modified of the cached copy of the file or {@code null}.
+	 * @param segment1        Segment of the path to file to retrieve.
+	 * @param segment2        Segment of the path to file to retrieve.
+	 * @param segment3        Segment of the path to file to retrieve.
+	 * @param segment4        Segment of the path to file to retrieve.
+	 * @param segment5        Segment of the path to file to retrieve.
+	 * @param filename        The name of file to retrieve.
+	 * @return If the file has been modified, the response body contains it, otherwise the status is
+	 *         304.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{segment4}/{segment5}/{filename}")
+	@GET
+	Uni<Response> getBlobIfModified(
+		@NotBody String accessToken,
+		@HeaderParam("If-None-Match") String ifNoneMatch,
+		@HeaderParam("If-Modified-Since") String ifModifiedSince,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("segment4") String segment4,
+		@PathParam("segment5") String segment5,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Returns a blob with the given file name and path if it has been modified.
+	 * </p>
+	 * 
+	 * @param accessToken     The value of access token got by Microsoft Entra ID.
+	 * @param ifNoneMatch     ETag of the cached copy of the file or {@code null}.
+	 * @param ifModifiedSince Last-Modified of the cached copy of the file or {@code null}.
+	 * @param segment1        Segment of the path to file to retrieve.
+	 * @param segment2        Segment of the path to file to retrieve.
+	 * @param segment3        Segment of the path to file to retrieve.
+	 * @param segment4        Segment of the path to file to retrieve.
+	 * @param segment5        Segment of the path to file to retrieve.
+	 * @param segment6        Segment of the path to file to retrieve.
+	 * @param filename        The name of file to retrieve.
+	 * @return If the file has been modified, the response body contains it, otherwise the status is
+	 *         304.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{segment4}/{segment5}/{segment6}/{filename}")
+	@GET
+	Uni<Response> getBlobIfModified(
+		@NotBody String accessToken,
+		@HeaderParam("If-None-Match") String ifNoneMatch,
+		@HeaderParam("If-Modified-Since") String ifModifiedSince,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("segment4") String segment4,
+		@PathParam("segment5") String segment5,
+		@PathParam("segment6") String segment6,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Returns a range of bytes of a blob with the given file name.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param range       The range of bytes to retrieve, as {@code bytes=<first>-<last>}.
+	 * @param ifMatch     ETag the blob must have or {@code null}: if the blob has been
+	 *                    modified, Azure Storage Blob returns 412.
+	 * @param filename    The name of file to retrieve.
+	 * @return If the range is retrieved successfully, the response body contains it and
+	 *         {@code Content-Range} contains the size of the file.
+	 */
+	@Path("{filename}")
+	@GET
+	Uni<Response> getBlobRange(
+		@NotBody String accessToken,
+		@HeaderParam("x-ms-range") String range,
+		@HeaderParam("If-Match") String ifMatch,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Returns a range of bytes of a blob with the given file name and path.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param range       The range of bytes to retrieve, as {@code bytes=<first>-<last>}.
+	 * @param ifMatch     ETag the blob must have or {@code null}: if the blob has been
+	 *                    modified, Azure Storage Blob returns 412.
+	 * @param segment1    Segment of the path to file to retrieve.
+	 * @param filename    The name of file to retrieve.
+	 * @return If the range is retrieved successfully, the response body contains it and
+	 *         {@code Content-Range} contains the size of the file.
+	 */
+	@Path("{segment1}/{filename}")
+	@GET
+	Uni<Response> getBlobRange(
+		@NotBody String accessToken,
+		@HeaderParam("x-ms-range") String range,
+		@HeaderParam("If-Match") String ifMatch,
+		@PathParam("segment1") String segment1,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Returns a range of bytes of a blob with the given file name and path.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param range       The range of bytes to retrieve, as {@code bytes=<first>-<last>}.
+	 * @param ifMatch     ETag the blob must have or {@code null}: if the blob has been
+	 *                    modified, Azure Storage Blob returns 412.
+	 * @param segment1    Segment of the path to file to retrieve.
+	 * @param segment2    Segment of the path to file to retrieve.
+	 * @param filename    The name of file to retrieve.
+	 * @return If the range is retrieved successfully, the response body contains it and
+	 *         {@code Content-Range} contains the size of the file.
+	 */
+	@Path("{segment1}/{segment2}/{filename}")
+	@GET
+	Uni<Response> getBlobRange(
+		@NotBody String accessToken,
+		@HeaderParam("x-ms-range") String range,
+		@HeaderParam("If-Match") String ifMatch,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Returns a range of bytes of a blob with the given file name and path.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param range       The range of bytes to retrieve, as {@code bytes=<first>-<last>}.
+	 * @param ifMatch     ETag the blob must have or {@code null}: if the blob has been
+	 *                    modified, Azure Storage Blob returns 412.
+	 * @param segment1    Segment of the path to file to retrieve.
+	 * @param segment2    Segment of the path to file to retrieve.
+	 * @param segment3    Segment of the path to file to retrieve.
+	 * @param filename    The name of file to retrieve.
+	 * @return If the range is retrieved successfully, the response body contains it and
+	 *         {@code Content-Range} contains the size of the file.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{filename}")
+	@GET
+	Uni<Response> getBlobRange(
+		@NotBody String accessToken,
+		@HeaderParam("x-ms-range") String range,
+		@HeaderParam("If-Match") String ifMatch,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Returns a range of bytes of a blob with the given file name and path.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param range       The range of bytes to retrieve, as {@code bytes=<first>-<last>}.
+	 * @param ifMatch     ETag the blob must have or {@code null}: if the blob has been
+	 *                    modified, Azure Storage Blob returns 412.
+	 * @param segment1    Segment of the path to file to retrieve.
+	 * @param segment2    Segment of the path to file to retrieve.
+	 * @param segment3    Segment of the path to file to retrieve.
+	 * @param segment4    Segment of the path to file to retrieve.
+	 * @param filename    The name of file to retrieve.
+	 * @return If the range is retrieved successfully, the response body contains it and
+	 *         {@code Content-Range} contains the size of the file.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{segment4}/{filename}")
+	@GET
+	Uni<Response> getBlobRange(
+		@NotBody String accessToken,
+		@HeaderParam("x-ms-range") String range,
+		@HeaderParam("If-Match") String ifMatch,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("segment4") String segment4,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Returns a range of bytes of a blob with the given file name and path.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param range       The range of bytes to retrieve, as {@code bytes=<first>-<last>}.
+	 * @param ifMatch     ETag the blob must have or {@code null}: if the blob has been
+	 *                    modified, Azure Storage Blob returns 412.
+	 * @param segment1    Segment of the path to file to retrieve.
+	 * @param segment2    Segment of the path to file to retrieve.
+	 * @param segment3    Segment of the path to file to retrieve.
+	 * @param segment4    Segment of the path to file to retrieve.
+	 * @param segment5    Segment of the path to file to retrieve.
+	 * @param filename    The name of file to retrieve.
+	 * @return If the range is retrieved successfully, the response body contains it and
+	 *         {@code Content-Range} contains the size of the file.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{segment4}/{segment5}/{filename}")
+	@GET
+	Uni<Response> getBlobRange(
+		@NotBody String accessToken,
+		@HeaderParam("x-ms-range") String range,
+		@HeaderParam("If-Match") String ifMatch,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("segment4") String segment4,
+		@PathParam("segment5") String segment5,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Returns a range of bytes of a blob with the given file name and path.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param range       The range of bytes to retrieve, as {@code bytes=<first>-<last>}.
+	 * @param ifMatch     ETag the blob must have or {@code null}: if the blob has been
+	 *                    modified, Azure Storage Blob returns 412.
+	 * @param segment1    Segment of the path to file to retrieve.
+	 * @param segment2    Segment of the path to file to retrieve.
+	 * @param segment3    Segment of the path to file to retrieve.
+	 * @param segment4    Segment of the path to file to retrieve.
+	 * @param segment5    Segment of the path to file to retrieve.
+	 * @param segment6    Segment of the path to file to retrieve.
+	 * @param filename    The name of file to retrieve.
+	 * @return If the range is retrieved successfully, the response body contains it and
+	 *         {@code Content-Range} contains the size of the file.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{segment4}/{segment5}/{segment6}/{filename}")
+	@GET
+	Uni<Response> getBlobRange(
+		@NotBody String accessToken,
+		@HeaderParam("x-ms-range") String range,
+		@HeaderParam("If-Match") String ifMatch,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("segment4") String segment4,
+		@PathParam("segment5") String segment5,
+		@PathParam("segment6") String segment6,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name, uploading its content in a single
+	 * request.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param content     Content of the file.
+	 * @param filename    The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	@Path("{filename}")
+	@PUT
+	@ClientHeaderParam(name = "x-ms-blob-type", value = "BlockBlob")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	Uni<Response> putBlob(
+		@NotBody String accessToken,
+		byte[] content,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in a single
+	 * request.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param content     Content of the file.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	@Path("{segment1}/{filename}")
+	@PUT
+	@ClientHeaderParam(name = "x-ms-blob-type", value = "BlockBlob")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	Uni<Response> putBlob(
+		@NotBody String accessToken,
+		byte[] content,
+		@PathParam("segment1") String segment1,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in a single
+	 * request.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param content     Content of the file.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param segment2    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	@Path("{segment1}/{segment2}/{filename}")
+	@PUT
+	@ClientHeaderParam(name = "x-ms-blob-type", value = "BlockBlob")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	Uni<Response> putBlob(
+		@NotBody String accessToken,
+		byte[] content,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in a single
+	 * request.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param content     Content of the file.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param segment2    Segment of the path to file to upload.
+	 * @param segment3    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{filename}")
+	@PUT
+	@ClientHeaderParam(name = "x-ms-blob-type", value = "BlockBlob")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	Uni<Response> putBlob(
+		@NotBody String accessToken,
+		byte[] content,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in a single
+	 * request.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param content     Content of the file.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param segment2    Segment of the path to file to upload.
+	 * @param segment3    Segment of the path to file to upload.
+	 * @param segment4    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{segment4}/{filename}")
+	@PUT
+	@ClientHeaderParam(name = "x-ms-blob-type", value = "BlockBlob")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	Uni<Response> putBlob(
+		@NotBody String accessToken,
+		byte[] content,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("segment4") String segment4,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in a single
+	 * request.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param content     Content of the file.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param segment2    Segment of the path to file to upload.
+	 * @param segment3    Segment of the path to file to upload.
+	 * @param segment4    Segment of the path to file to upload.
+	 * @param segment5    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{segment4}/{segment5}/{filename}")
+	@PUT
+	@ClientHeaderParam(name = "x-ms-blob-type", value = "BlockBlob")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	Uni<Response> putBlob(
+		@NotBody String accessToken,
+		byte[] content,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("segment4") String segment4,
+		@PathParam("segment5") String segment5,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in a single
+	 * request.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param content     Content of the file.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param segment2    Segment of the path to file to upload.
+	 * @param segment3    Segment of the path to file to upload.
+	 * @param segment4    Segment of the path to file to upload.
+	 * @param segment5    Segment of the path to file to upload.
+	 * @param segment6    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{segment4}/{segment5}/{segment6}/{filename}")
+	@PUT
+	@ClientHeaderParam(name = "x-ms-blob-type", value = "BlockBlob")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	Uni<Response> putBlob(
+		@NotBody String accessToken,
+		byte[] content,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("segment4") String segment4,
+		@PathParam("segment5") String segment5,
+		@PathParam("segment6") String segment6,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Uploads a block of a blob with the given file name: the block is committed by
+	 * {@code putBlockList}.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param blockId     Base64 ID of the block: all the IDs of a blob must have the same length.
+	 * @param block       Content of the block.
+	 * @param filename    The name of file to upload.
+	 * @return If the block is uploaded successfully, the status is 201.
+	 */
+	@Path("{filename}")
+	@PUT
+	@ClientQueryParam(name = "comp", value = "block")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	Uni<Response> putBlock(
+		@NotBody String accessToken,
+		@QueryParam("blockid") String blockId,
+		byte[] block,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Uploads a block of a blob with the given file name and path: the block is committed by
+	 * {@code putBlockList}.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param blockId     Base64 ID of the block: all the IDs of a blob must have the same length.
+	 * @param block       Content of the block.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the block is uploaded successfully, the status is 201.
+	 */
+	@Path("{segment1}/{filename}")
+	@PUT
+	@ClientQueryParam(name = "comp", value = "block")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	Uni<Response> putBlock(
+		@NotBody String accessToken,
+		@QueryParam("blockid") String blockId,
+		byte[] block,
+		@PathParam("segment1") String segment1,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Uploads a block of a blob with the given file name and path: the block is committed by
+	 * {@code putBlockList}.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param blockId     Base64 ID of the block: all the IDs of a blob must have the same length.
+	 * @param block       Content of the block.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param segment2    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the block is uploaded successfully, the status is 201.
+	 */
+	@Path("{segment1}/{segment2}/{filename}")
+	@PUT
+	@ClientQueryParam(name = "comp", value = "block")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	Uni<Response> putBlock(
+		@NotBody String accessToken,
+		@QueryParam("blockid") String blockId,
+		byte[] block,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Uploads a block of a blob with the given file name and path: the block is committed by
+	 * {@code putBlockList}.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param blockId     Base64 ID of the block: all the IDs of a blob must have the same length.
+	 * @param block       Content of the block.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param segment2    Segment of the path to file to upload.
+	 * @param segment3    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the block is uploaded successfully, the status is 201.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{filename}")
+	@PUT
+	@ClientQueryParam(name = "comp", value = "block")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	Uni<Response> putBlock(
+		@NotBody String accessToken,
+		@QueryParam("blockid") String blockId,
+		byte[] block,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Uploads a block of a blob with the given file name and path: the block is committed by
+	 * {@code putBlockList}.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param blockId     Base64 ID of the block: all the IDs of a blob must have the same length.
+	 * @param block       Content of the block.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param segment2    Segment of the path to file to upload.
+	 * @param segment3    Segment of the path to file to upload.
+	 * @param segment4    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the block is uploaded successfully, the status is 201.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{segment4}/{filename}")
+	@PUT
+	@ClientQueryParam(name = "comp", value = "block")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	Uni<Response> putBlock(
+		@NotBody String accessToken,
+		@QueryParam("blockid") String blockId,
+		byte[] block,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("segment4") String segment4,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Uploads a block of a blob with the given file name and path: the block is committed by
+	 * {@code putBlockList}.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param blockId     Base64 ID of the block: all the IDs of a blob must have the same length.
+	 * @param block       Content of the block.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param segment2    Segment of the path to file to upload.
+	 * @param segment3    Segment of the path to file to upload.
+	 * @param segment4    Segment of the path to file to upload.
+	 * @param segment5    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the block is uploaded successfully, the status is 201.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{segment4}/{segment5}/{filename}")
+	@PUT
+	@ClientQueryParam(name = "comp", value = "block")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	Uni<Response> putBlock(
+		@NotBody String accessToken,
+		@QueryParam("blockid") String blockId,
+		byte[] block,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("segment4") String segment4,
+		@PathParam("segment5") String segment5,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Uploads a block of a blob with the given file name and path: the block is committed by
+	 * {@code putBlockList}.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param blockId     Base64 ID of the block: all the IDs of a blob must have the same length.
+	 * @param block       Content of the block.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param segment2    Segment of the path to file to upload.
+	 * @param segment3    Segment of the path to file to upload.
+	 * @param segment4    Segment of the path to file to upload.
+	 * @param segment5    Segment of the path to file to upload.
+	 * @param segment6    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the block is uploaded successfully, the status is 201.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{segment4}/{segment5}/{segment6}/{filename}")
+	@PUT
+	@ClientQueryParam(name = "comp", value = "block")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	Uni<Response> putBlock(
+		@NotBody String accessToken,
+		@QueryParam("blockid") String blockId,
+		byte[] block,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("segment4") String segment4,
+		@PathParam("segment5") String segment5,
+		@PathParam("segment6") String segment6,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name, committing the given list of
+	 * uploaded blocks.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param blockList   XML list of the IDs of the blocks, in the order they make up the file.
+	 * @param filename    The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	@Path("{filename}")
+	@PUT
+	@ClientQueryParam(name = "comp", value = "blocklist")
+	@Consumes(MediaType.APPLICATION_XML)
+	Uni<Response> putBlockList(
+		@NotBody String accessToken,
+		String blockList,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, committing the given list of
+	 * uploaded blocks.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param blockList   XML list of the IDs of the blocks, in the order they make up the file.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	@Path("{segment1}/{filename}")
+	@PUT
+	@ClientQueryParam(name = "comp", value = "blocklist")
+	@Consumes(MediaType.APPLICATION_XML)
+	Uni<Response> putBlockList(
+		@NotBody String accessToken,
+		String blockList,
+		@PathParam("segment1") String segment1,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, committing the given list of
+	 * uploaded blocks.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param blockList   XML list of the IDs of the blocks, in the order they make up the file.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param segment2    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	@Path("{segment1}/{segment2}/{filename}")
+	@PUT
+	@ClientQueryParam(name = "comp", value = "blocklist")
+	@Consumes(MediaType.APPLICATION_XML)
+	Uni<Response> putBlockList(
+		@NotBody String accessToken,
+		String blockList,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, committing the given list of
+	 * uploaded blocks.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param blockList   XML list of the IDs of the blocks, in the order they make up the file.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param segment2    Segment of the path to file to upload.
+	 * @param segment3    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{filename}")
+	@PUT
+	@ClientQueryParam(name = "comp", value = "blocklist")
+	@Consumes(MediaType.APPLICATION_XML)
+	Uni<Response> putBlockList(
+		@NotBody String accessToken,
+		String blockList,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, committing the given list of
+	 * uploaded blocks.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param blockList   XML list of the IDs of the blocks, in the order they make up the file.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param segment2    Segment of the path to file to upload.
+	 * @param segment3    Segment of the path to file to upload.
+	 * @param segment4    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{segment4}/{filename}")
+	@PUT
+	@ClientQueryParam(name = "comp", value = "blocklist")
+	@Consumes(MediaType.APPLICATION_XML)
+	Uni<Response> putBlockList(
+		@NotBody String accessToken,
+		String blockList,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("segment4") String segment4,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, committing the given list of
+	 * uploaded blocks.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param blockList   XML list of the IDs of the blocks, in the order they make up the file.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param segment2    Segment of the path to file to upload.
+	 * @param segment3    Segment of the path to file to upload.
+	 * @param segment4    Segment of the path to file to upload.
+	 * @param segment5    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{segment4}/{segment5}/{filename}")
+	@PUT
+	@ClientQueryParam(name = "comp", value = "blocklist")
+	@Consumes(MediaType.APPLICATION_XML)
+	Uni<Response> putBlockList(
+		@NotBody String accessToken,
+		String blockList,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("segment4") String segment4,
+		@PathParam("segment5") String segment5,
+		@PathParam("filename") String filename);
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, committing the given list of
+	 * uploaded blocks.
+	 * </p>
+	 * 
+	 * @param accessToken The value of access token got by Microsoft Entra ID.
+	 * @param blockList   XML list of the IDs of the blocks, in the order they make up the file.
+	 * @param segment1    Segment of the path to file to upload.
+	 * @param segment2    Segment of the path to file to upload.
+	 * @param segment3    Segment of the path to file to upload.
+	 * @param segment4    Segment of the path to file to upload.
+	 * @param segment5    Segment of the path to file to upload.
+	 * @param segment6    Segment of the path to file to upload.
+	 * @param filename    The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	@Path("{segment1}/{segment2}/{segment3}/{segment4}/{segment5}/{segment6}/{filename}")
+	@PUT
+	@ClientQueryParam(name = "comp", value = "blocklist")
+	@Consumes(MediaType.APPLICATION_XML)
+	Uni<Response> putBlockList(
+		@NotBody String accessToken,
+		String blockList,
+		@PathParam("segment1") String segment1,
+		@PathParam("segment2") String segment2,
+		@PathParam("segment3") String segment3,
+		@PathParam("segment4") String segment4,
+		@PathParam("segment5") String segment5,
+		@PathParam("segment6") String segment6,
+		@PathParam("filename") String filename);
 }
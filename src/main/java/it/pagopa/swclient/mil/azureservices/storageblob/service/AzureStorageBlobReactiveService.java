@@ -5,20 +5,40 @@
  */
 package it.pagopa.swclient.mil.azureservices.storageblob.service;
 
-import java.lang.reflect.Method;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 
 import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import it.pagopa.swclient.mil.azureservices.identity.bean.Scope;
 import it.pagopa.swclient.mil.azureservices.identity.service.AzureIdentityReactiveService;
 import it.pagopa.swclient.mil.azureservices.storageblob.client.AzureStorageBlobReactiveClient;
+import it.pagopa.swclient.mil.azureservices.util.RateLimiter;
+import it.pagopa.swclient.mil.azureservices.util.RetryPolicy;
+import it.pagopa.swclient.mil.azureservices.util.TimedCache;
 import it.pagopa.swclient.mil.azureservices.util.WebAppExcUtils;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jakarta.interceptor.AroundInvoke;
-import jakarta.interceptor.InvocationContext;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 
 /**
@@ -34,13 +54,169 @@ import jakarta.ws.rs.core.Response;
  * 401 or 403) of the access token from Microsoft Entra ID that will be used with Azure Storage Blob
  * (by means of
  * {@link it.pagopa.swclient.mil.azureservices.storageblob.client.AzureStorageBlobReactiveClient
- * AzureStorageBlobReactiveClient}).</li>
+ * AzureStorageBlobReactiveClient});</li>
+ * <li>the retrying in case of 429, 5xx or connection failures from Azure Storage Blob, by means of
+ * {@link it.pagopa.swclient.mil.azureservices.util.RetryPolicy RetryPolicy}.</li>
+ * </ul>
+ * <p>
+ * Blobs can be got whole, as {@link Response}, or streamed, as blocks of
+ * {@code azure-storage-blob.download.block-size} bytes fetched one after another by means of range
+ * requests: the latter keeps the memory used by a download constant, whatever the size of the blob.
+ * </p>
+ * <p>
+ * The following properties control the back-off policy:
+ * </p>
+ * <ul>
+ * <li>{@code azure-storage-blob.backoff.initial-duration}</li>
+ * <li>{@code azure-storage-blob.backoff.jitter}</li>
+ * <li>{@code azure-storage-blob.backoff.number-of-attempts}</li>
+ * <li>{@code azure-storage-blob.backoff.retry-budget.ratio}</li>
+ * <li>{@code azure-storage-blob.backoff.retry-budget.max}</li>
+ * </ul>
+ * <p>
+ * Large blobs can be downloaded into a {@link FileChannel}, or directly into a local file, splitting
+ * them in ranges fetched in parallel; the following properties control this:
+ * </p>
+ * <ul>
+ * <li>{@code azure-storage-blob.download.block-size}</li>
+ * <li>{@code azure-storage-blob.download.concurrency}</li>
+ * </ul>
+ * <p>
+ * Blobs which rarely change can be got by means of conditional requests: their content is cached
+ * with their {@code ETag} and {@code Last-Modified}, and it is returned without downloading it again
+ * when Azure Storage Blob replies 304. The following properties control the cache, which is disabled
+ * by default:
+ * </p>
+ * <ul>
+ * <li>{@code azure-storage-blob.cache.ttl}</li>
+ * <li>{@code azure-storage-blob.cache.max-size}</li>
+ * <li>{@code azure-storage-blob.cache.max-blob-size}: larger blobs are returned but not cached, so
+ * the cache never holds more than {@code max-size} times {@code max-blob-size} bytes.</li>
+ * </ul>
+ * <p>
+ * Small blobs can be uploaded in a single request, large ones are uploaded in blocks in parallel,
+ * from a stream of bytes or from a local file, without keeping the whole content in memory; the
+ * following properties control this:
+ * </p>
+ * <ul>
+ * <li>{@code azure-storage-blob.upload.block-size}</li>
+ * <li>{@code azure-storage-blob.upload.concurrency}</li>
  * </ul>
  * 
  * @author Antonio Tarricone
  */
 @ApplicationScoped
 public class AzureStorageBlobReactiveService {
+	/**
+	 * <p>
+	 * Initial back-off duration in seconds.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-storage-blob.backoff.initial-duration", defaultValue = "1")
+	int initialBackoff = 1;
+
+	/**
+	 * <p>
+	 * Jitter of back-off policy: it must be in [0; 1]
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-storage-blob.backoff.jitter", defaultValue = "0.2")
+	double jitter = 0.2;
+
+	/**
+	 * <p>
+	 * Number of retries.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-storage-blob.backoff.number-of-attempts", defaultValue = "3")
+	int numberOfAttempts = 3;
+
+	/**
+	 * <p>
+	 * Fraction of retry that every operation adds to the retry budget.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-storage-blob.backoff.retry-budget.ratio", defaultValue = "0.2")
+	double retryBudgetRatio = 0.2;
+
+	/**
+	 * <p>
+	 * Max number of retries saved in the retry budget: 0 means unlimited budget.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-storage-blob.backoff.retry-budget.max", defaultValue = "100")
+	int retryBudgetMax = 100;
+
+	/**
+	 * <p>
+	 * Size in bytes of the blocks fetched by parallel downloads.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-storage-blob.download.block-size", defaultValue = "4194304")
+	int downloadBlockSize = 4194304;
+
+	/**
+	 * <p>
+	 * Max number of blocks fetched concurrently by a parallel download.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-storage-blob.download.concurrency", defaultValue = "8")
+	int downloadConcurrency = 8;
+
+	/**
+	 * <p>
+	 * Time-to-live in milliseconds of the cached blobs: 0 disables the cache.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-storage-blob.cache.ttl", defaultValue = "0")
+	long cacheTtl = 0;
+
+	/**
+	 * <p>
+	 * Max number of cached blobs.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-storage-blob.cache.max-size", defaultValue = "100")
+	int cacheMaxSize = 100;
+
+	/**
+	 * <p>
+	 * Max size in bytes of a cached blob: larger blobs are returned but not cached.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-storage-blob.cache.max-blob-size", defaultValue = "1048576")
+	int cacheMaxBlobSize = 1048576;
+
+	/**
+	 * <p>
+	 * Size in bytes of the blocks of uploads.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-storage-blob.upload.block-size", defaultValue = "4194304")
+	int uploadBlockSize = 4194304;
+
+	/**
+	 * <p>
+	 * Max number of blocks uploaded concurrently.
+	 * </p>
+	 */
+	@ConfigProperty(name = "azure-storage-blob.upload.concurrency", defaultValue = "8")
+	int uploadConcurrency = 8;
+
+	/**
+	 * <p>
+	 * Retry policy of all operations.
+	 * </p>
+	 */
+	private RetryPolicy retryPolicy;
+
+	/**
+	 * <p>
+	 * Cached blobs with their validators.
+	 * </p>
+	 */
+	private TimedCache<String, CachedBlob> blobCache;
+
 	/**
 	 * <p>
 	 * Service to retrieve the access token from Microsoft Entra ID.
@@ -62,13 +238,6 @@ public class AzureStorageBlobReactiveService {
 	@RestClient
 	AzureStorageBlobReactiveClient blobClient;
 
-	/**
-	 * <p>
-	 * Cached access token.
-	 * </p>
-	 */
-	private String accessTokenValue;
-
 	/**
 	 * <p>
 	 * Constructor.
@@ -84,52 +253,50 @@ public class AzureStorageBlobReactiveService {
 
 	/**
 	 * <p>
-	 * Transforms {@link java.lang.Exception Exception} in {@link java.lang.RuntimeException
-	 * RuntimeException} to allow handling with Mutiny.
+	 * Builds the retry policy with the configured back-off and the cache of blobs.
 	 * </p>
-	 * 
-	 * @param context {@link jakarta.interceptor.InvocationContext InvocationContext}
-	 * @return Object returned by the target method.
 	 */
-	@SuppressWarnings("unchecked")
-	private Uni<Object> proceed(InvocationContext context) {
-		Log.trace("Proceed");
-		try {
-			return (Uni<Object>) (context.proceed());
-		} catch (Exception e) {
-			throw new RuntimeException(e); // NOSONAR
-		}
+	@PostConstruct
+	void init() {
+		blobCache = new TimedCache<>(cacheTtl, cacheMaxSize);
+		retryPolicy = new RetryPolicy(
+			Duration.ofSeconds(initialBackoff),
+			jitter,
+			numberOfAttempts,
+			retryBudgetRatio,
+			retryBudgetMax,
+			new RateLimiter(0, 0));
 	}
 
 	/**
 	 * <p>
-	 * This method decorates the others:
+	 * This method decorates the operations of this service:
 	 * </p>
 	 * <ul>
 	 * <li>retrieving the access token from Microsoft Entra ID by means of
 	 * {@link it.pagopa.swclient.mil.azureservices.identity.service.AzureIdentityReactiveService
 	 * AzureIdentityReactiveService};</li>
 	 * <li>renewing of the access token from Microsoft Entra ID the invoked target API returns 401 or
-	 * 403.</li>
+	 * 403;</li>
+	 * <li>retrying in case of transient failures.</li>
 	 * </ul>
+	 * <p>
+	 * The access token is passed to the operation, so that every invocation carries its own one.
+	 * </p>
 	 * 
-	 * @param context {@link jakarta.interceptor.InvocationContext InvocationContext}
-	 * @return Object returned by the target method.
+	 * @param <T>       Type of the item emitted by the operation.
+	 * @param operation Operation to invoke with the access token value.
+	 * @return The item emitted by the operation.
 	 */
-	@AroundInvoke
-	Object authenticate(InvocationContext context) {
-		Method method = context.getMethod();
-		Log.tracef("Around invoke: %s.%s", context.getTarget().getClass().getSimpleName(), method.getName());
-		return identityService.getAccessToken(Scope.STORAGE)
-			.invoke(accessToken -> accessTokenValue = accessToken.getValue())
-			.chain(() -> proceed(context))
+	private <T> Uni<T> authenticate(Function<String, Uni<T>> operation) {
+		return retryPolicy.apply(() -> identityService.getAccessToken(Scope.STORAGE)
+			.chain(accessToken -> operation.apply(accessToken.getValue()))
 			.onFailure(WebAppExcUtils::isUnauthorizedOrForbidden) // On 401 or 403...
 			.recoverWithUni(f -> {
 				Log.debug("Recovering");
 				return identityService.getNewAccessTokenAndCacheIt(Scope.STORAGE) // ...get a new access token...
-					.invoke(accessToken -> accessTokenValue = accessToken.getValue())
-					.chain(() -> proceed(context));
-			}); // ...and retry!
+					.chain(accessToken -> operation.apply(accessToken.getValue()));
+			}), true); // ...and retry!
 	}
 
 	/**
@@ -141,7 +308,7 @@ public class AzureStorageBlobReactiveService {
 	 * @return If the file is retrieved successfully, the response body contains it.
 	 */
 	public Uni<Response> getBlob(String filename) {
-		return blobClient.getBlob(accessTokenValue, filename);
+		return authenticate(accessToken -> blobClient.getBlob(accessToken, filename));
 	}
 
 	/**
@@ -154,7 +321,7 @@ public class AzureStorageBlobReactiveService {
 	 * @return If the file is retrieved successfully, the response body contains it.
 	 */
 	public Uni<Response> getBlob(String segment1, String filename) {
-		return blobClient.getBlob(accessTokenValue, segment1, filename);
+		return authenticate(accessToken -> blobClient.getBlob(accessToken, segment1, filename));
 	}
 
 	/**
@@ -168,7 +335,7 @@ public class AzureStorageBlobReactiveService {
 	 * @return If the file is retrieved successfully, the response body contains it.
 	 */
 	public Uni<Response> getBlob(String segment1, String segment2, String filename) {
-		return blobClient.getBlob(accessTokenValue, segment1, segment2, filename);
+		return authenticate(accessToken -> blobClient.getBlob(accessToken, segment1, segment2, filename));
 	}
 
 	/**
@@ -183,7 +350,7 @@ public class AzureStorageBlobReactiveService {
 	 * @return If the file is retrieved successfully, the response body contains it.
 	 */
 	public Uni<Response> getBlob(String segment1, String segment2, String segment3, String filename) {
-		return blobClient.getBlob(accessTokenValue, segment1, segment2, segment3, filename);
+		return authenticate(accessToken -> blobClient.getBlob(accessToken, segment1, segment2, segment3, filename));
 	}
 
 	/**
@@ -199,7 +366,7 @@ public class AzureStorageBlobReactiveService {
 	 * @return If the file is retrieved successfully, the response body contains it.
 	 */
 	public Uni<Response> getBlob(String segment1, String segment2, String segment3, String segment4, String filename) {
-		return blobClient.getBlob(accessTokenValue, segment1, segment2, segment3, segment4, filename);
+		return authenticate(accessToken -> blobClient.getBlob(accessToken, segment1, segment2, segment3, segment4, filename));
 	}
 
 	/**
@@ -216,7 +383,7 @@ public class AzureStorageBlobReactiveService {
 	 * @return If the file is retrieved successfully, the response body contains it.
 	 */
 	public Uni<Response> getBlob(String segment1, String segment2, String segment3, String segment4, String segment5, String filename) {
-		return blobClient.getBlob(accessTokenValue, segment1, segment2, segment3, segment4, segment5, filename);
+		return authenticate(accessToken -> blobClient.getBlob(accessToken, segment1, segment2, segment3, segment4, segment5, filename));
 	}
 
 	/**
@@ -234,6 +401,1580 @@ public class AzureStorageBlobReactiveService {
 	 * @return If the file is retrieved successfully, the response body contains it.
 	 */
 	public Uni<Response> getBlob(String segment1, String segment2, String segment3, String segment4, String segment5, String segment6, String filename) {
-		return blobClient.getBlob(accessTokenValue, segment1, segment2, segment3, segment4, segment5, segment6, filename);
+		return authenticate(accessToken -> blobClient.getBlob(accessToken, segment1, segment2, segment3, segment4, segment5, segment6, filename));
+	}
+
+	/**
+	 * <p>
+	 * Returns the content of a blob with the given file name, from the cache if it hasn't been
+	 * modified.
+	 * </p>
+	 * 
+	 * @param filename The name of file to retrieve.
+	 * @return The content of the file.
+	 */
+	public Uni<byte[]> getCachedBlob(String filename) {
+		return getCachedBlob(new String[] { filename });
+	}
+
+	/**
+	 * <p>
+	 * Returns the content of a blob with the given file name and path, from the cache if it hasn't
+	 * been modified.
+	 * </p>
+	 * 
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The content of the file.
+	 */
+	public Uni<byte[]> getCachedBlob(String segment1, String filename) {
+		return getCachedBlob(new String[] { segment1, filename });
+	}
+
+	/**
+	 * <p>
+	 * Returns the content of a blob with the given file name and path, from the cache if it hasn't
+	 * been modified.
+	 * </p>
+	 * 
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The content of the file.
+	 */
+	public Uni<byte[]> getCachedBlob(String segment1, String segment2, String filename) {
+		return getCachedBlob(new String[] { segment1, segment2, filename });
+	}
+
+	/**
+	 * <p>
+	 * Returns the content of a blob with the given file name and path, from the cache if it hasn't
+	 * been modified.
+	 * </p>
+	 * 
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The content of the file.
+	 */
+	public Uni<byte[]> getCachedBlob(String segment1, String segment2, String segment3, String filename) {
+		return getCachedBlob(new String[] { segment1, segment2, segment3, filename });
+	}
+
+	/**
+	 * <p>
+	 * Returns the content of a blob with the given file name and path, from the cache if it hasn't
+	 * been modified.
+	 * </p>
+	 * 
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param segment4 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The content of the file.
+	 */
+	public Uni<byte[]> getCachedBlob(String segment1, String segment2, String segment3, String segment4, String filename) {
+		return getCachedBlob(new String[] { segment1, segment2, segment3, segment4, filename });
+	}
+
+	/**
+	 * <p>
+	 * Returns the content of a blob with the given file name and path, from the cache if it hasn't
+	 * been modified.
+	 * </p>
+	 * 
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param segment4 Segment of the path to file to retrieve.
+	 * @param segment5 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The content of the file.
+	 */
+	public Uni<byte[]> getCachedBlob(String segment1, String segment2, String segment3, String segment4, String segment5, String filename) {
+		return getCachedBlob(new String[] { segment1, segment2, segment3, segment4, segment5, filename });
+	}
+
+	/**
+	 * <p>
+	 * Returns the content of a blob with the given file name and path, from the cache if it hasn't
+	 * been modified.
+	 * </p>
+	 * 
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param segment4 Segment of the path to file to retrieve.
+	 * @param segment5 Segment of the path to file to retrieve.
+	 * @param segment6 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The content of the file.
+	 */
+	public Uni<byte[]> getCachedBlob(String segment1, String segment2, String segment3, String segment4, String segment5, String segment6, String filename) {
+		return getCachedBlob(new String[] { segment1, segment2, segment3, segment4, segment5, segment6, filename });
+	}
+
+	/**
+	 * <p>
+	 * Returns a range of bytes of a blob with the given file name.
+	 * </p>
+	 * 
+	 * @param range    The range of bytes to retrieve, as {@code bytes=<first>-<last>}.
+	 * @param filename The name of file to retrieve.
+	 * @return If the range is retrieved successfully, the response body contains it and
+	 *         {@code Content-Range} contains the size of the file.
+	 */
+	public Uni<Response> getBlobRange(String range, String filename) {
+		return authenticate(accessToken -> blobClient.getBlobRange(accessToken, range, null, filename));
+	}
+
+	/**
+	 * <p>
+	 * Returns a range of bytes of a blob with the given file name and path.
+	 * </p>
+	 * 
+	 * @param range    The range of bytes to retrieve, as {@code bytes=<first>-<last>}.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return If the range is retrieved successfully, the response body contains it and
+	 *         {@code Content-Range} contains the size of the file.
+	 */
+	public Uni<Response> getBlobRange(String range, String segment1, String filename) {
+		return authenticate(accessToken -> blobClient.getBlobRange(accessToken, range, null, segment1, filename));
+	}
+
+	/**
+	 * <p>
+	 * Returns a range of bytes of a blob with the given file name and path.
+	 * </p>
+	 * 
+	 * @param range    The range of bytes to retrieve, as {@code bytes=<first>-<last>}.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return If the range is retrieved successfully, the response body contains it and
+	 *         {@code Content-Range} contains the size of the file.
+	 */
+	public Uni<Response> getBlobRange(String range, String segment1, String segment2, String filename) {
+		return authenticate(accessToken -> blobClient.getBlobRange(accessToken, range, null, segment1, segment2, filename));
+	}
+
+	/**
+	 * <p>
+	 * Returns a range of bytes of a blob with the given file name and path.
+	 * </p>
+	 * 
+	 * @param range    The range of bytes to retrieve, as {@code bytes=<first>-<last>}.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return If the range is retrieved successfully, the response body contains it and
+	 *         {@code Content-Range} contains the size of the file.
+	 */
+	public Uni<Response> getBlobRange(String range, String segment1, String segment2, String segment3, String filename) {
+		return authenticate(accessToken -> blobClient.getBlobRange(accessToken, range, null, segment1, segment2, segment3, filename));
+	}
+
+	/**
+	 * <p>
+	 * Returns a range of bytes of a blob with the given file name and path.
+	 * </p>
+	 * 
+	 * @param range    The range of bytes to retrieve, as {@code bytes=<first>-<last>}.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param segment4 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return If the range is retrieved successfully, the response body contains it and
+	 *         {@code Content-Range} contains the size of the file.
+	 */
+	public Uni<Response> getBlobRange(String range, String segment1, String segment2, String segment3, String segment4, String filename) {
+		return authenticate(accessToken -> blobClient.getBlobRange(accessToken, range, null, segment1, segment2, segment3, segment4, filename));
+	}
+
+	/**
+	 * <p>
+	 * Returns a range of bytes of a blob with the given file name and path.
+	 * </p>
+	 * 
+	 * @param range    The range of bytes to retrieve, as {@code bytes=<first>-<last>}.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param segment4 Segment of the path to file to retrieve.
+	 * @param segment5 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return If the range is retrieved successfully, the response body contains it and
+	 *         {@code Content-Range} contains the size of the file.
+	 */
+	public Uni<Response> getBlobRange(String range, String segment1, String segment2, String segment3, String segment4, String segment5, String filename) {
+		return authenticate(accessToken -> blobClient.getBlobRange(accessToken, range, null, segment1, segment2, segment3, segment4, segment5, filename));
+	}
+
+	/**
+	 * <p>
+	 * Returns a range of bytes of a blob with the given file name and path.
+	 * </p>
+	 * 
+	 * @param range    The range of bytes to retrieve, as {@code bytes=<first>-<last>}.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param segment4 Segment of the path to file to retrieve.
+	 * @param segment5 Segment of the path to file to retrieve.
+	 * @param segment6 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return If the range is retrieved successfully, the response body contains it and
+	 *         {@code Content-Range} contains the size of the file.
+	 */
+	public Uni<Response> getBlobRange(String range, String segment1, String segment2, String segment3, String segment4, String segment5, String segment6, String filename) {
+		return authenticate(accessToken -> blobClient.getBlobRange(accessToken, range, null, segment1, segment2, segment3, segment4, segment5, segment6, filename));
+	}
+
+	/**
+	 * <p>
+	 * Downloads a blob with the given file name into the given channel, fetching its ranges in
+	 * parallel.
+	 * </p>
+	 * 
+	 * @param channel  Channel to write the content of the file to, at its offset in the file.
+	 * @param filename The name of file to retrieve.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> download(FileChannel channel, String filename) {
+		return downloadInParallel(channel, new String[] { filename });
+	}
+
+	/**
+	 * <p>
+	 * Downloads a blob with the given file name and path into the given channel, fetching its ranges
+	 * in parallel.
+	 * </p>
+	 * 
+	 * @param channel  Channel to write the content of the file to, at its offset in the file.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> download(FileChannel channel, String segment1, String filename) {
+		return downloadInParallel(channel, new String[] { segment1, filename });
+	}
+
+	/**
+	 * <p>
+	 * Downloads a blob with the given file name and path into the given channel, fetching its ranges
+	 * in parallel.
+	 * </p>
+	 * 
+	 * @param channel  Channel to write the content of the file to, at its offset in the file.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> download(FileChannel channel, String segment1, String segment2, String filename) {
+		return downloadInParallel(channel, new String[] { segment1, segment2, filename });
+	}
+
+	/**
+	 * <p>
+	 * Downloads a blob with the given file name and path into the given channel, fetching its ranges
+	 * in parallel.
+	 * </p>
+	 * 
+	 * @param channel  Channel to write the content of the file to, at its offset in the file.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> download(FileChannel channel, String segment1, String segment2, String segment3, String filename) {
+		return downloadInParallel(channel, new String[] { segment1, segment2, segment3, filename });
+	}
+
+	/**
+	 * <p>
+	 * Downloads a blob with the given file name and path into the given channel, fetching its ranges
+	 * in parallel.
+	 * </p>
+	 * 
+	 * @param channel  Channel to write the content of the file to, at its offset in the file.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param segment4 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> download(FileChannel channel, String segment1, String segment2, String segment3, String segment4, String filename) {
+		return downloadInParallel(channel, new String[] { segment1, segment2, segment3, segment4, filename });
+	}
+
+	/**
+	 * <p>
+	 * Downloads a blob with the given file name and path into the given channel, fetching its ranges
+	 * in parallel.
+	 * </p>
+	 * 
+	 * @param channel  Channel to write the content of the file to, at its offset in the file.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param segment4 Segment of the path to file to retrieve.
+	 * @param segment5 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> download(FileChannel channel, String segment1, String segment2, String segment3, String segment4, String segment5, String filename) {
+		return downloadInParallel(channel, new String[] { segment1, segment2, segment3, segment4, segment5, filename });
+	}
+
+	/**
+	 * <p>
+	 * Downloads a blob with the given file name and path into the given channel, fetching its ranges
+	 * in parallel.
+	 * </p>
+	 * 
+	 * @param channel  Channel to write the content of the file to, at its offset in the file.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param segment4 Segment of the path to file to retrieve.
+	 * @param segment5 Segment of the path to file to retrieve.
+	 * @param segment6 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> download(FileChannel channel, String segment1, String segment2, String segment3, String segment4, String segment5, String segment6, String filename) {
+		return downloadInParallel(channel, new String[] { segment1, segment2, segment3, segment4, segment5, segment6, filename });
+	}
+
+	/**
+	 * <p>
+	 * Downloads a blob with the given file name into the given local file, fetching its ranges in
+	 * parallel.
+	 * </p>
+	 * 
+	 * @param file     Local file to write the content of the blob to.
+	 * @param filename The name of file to retrieve.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> downloadToFile(Path file, String filename) {
+		return downloadToFile(file, new String[] { filename });
+	}
+
+	/**
+	 * <p>
+	 * Downloads a blob with the given file name and path into the given local file, fetching its
+	 * ranges in parallel.
+	 * </p>
+	 * 
+	 * @param file     Local file to write the content of the blob to.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> downloadToFile(Path file, String segment1, String filename) {
+		return downloadToFile(file, new String[] { segment1, filename });
+	}
+
+	/**
+	 * <p>
+	 * Downloads a blob with the given file name and path into the given local file, fetching its
+	 * ranges in parallel.
+	 * </p>
+	 * 
+	 * @param file     Local file to write the content of the blob to.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> downloadToFile(Path file, String segment1, String segment2, String filename) {
+		return downloadToFile(file, new String[] { segment1, segment2, filename });
+	}
+
+	/**
+	 * <p>
+	 * Downloads a blob with the given file name and path into the given local file, fetching its
+	 * ranges in parallel.
+	 * </p>
+	 * 
+	 * @param file     Local file to write the content of the blob to.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> downloadToFile(Path file, String segment1, String segment2, String segment3, String filename) {
+		return downloadToFile(file, new String[] { segment1, segment2, segment3, filename });
+	}
+
+	/**
+	 * <p>
+	 * Downloads a blob with the given file name and path into the given local file, fetching its
+	 * ranges in parallel.
+	 * </p>
+	 * 
+	 * @param file     Local file to write the content of the blob to.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param segment4 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> downloadToFile(Path file, String segment1, String segment2, String segment3, String segment4, String filename) {
+		return downloadToFile(file, new String[] { segment1, segment2, segment3, segment4, filename });
+	}
+
+	/**
+	 * <p>
+	 * Downloads a blob with the given file name and path into the given local file, fetching its
+	 * ranges in parallel.
+	 * </p>
+	 * 
+	 * @param file     Local file to write the content of the blob to.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param segment4 Segment of the path to file to retrieve.
+	 * @param segment5 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> downloadToFile(Path file, String segment1, String segment2, String segment3, String segment4, String segment5, String filename) {
+		return downloadToFile(file, new String[] { segment1, segment2, segment3, segment4, segment5, filename });
+	}
+
+	/**
+	 * <p>
+	 * Downloads a blob with the given file name and path into the given local file, fetching its
+	 * ranges in parallel.
+	 * </p>
+	 * 
+	 * @param file     Local file to write the content of the blob to.
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param segment4 Segment of the path to file to retrieve.
+	 * @param segment5 Segment of the path to file to retrieve.
+	 * @param segment6 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> downloadToFile(Path file, String segment1, String segment2, String segment3, String segment4, String segment5, String segment6, String filename) {
+		return downloadToFile(file, new String[] { segment1, segment2, segment3, segment4, segment5, segment6, filename });
+	}
+
+	/**
+	 * <p>
+	 * Streams a blob with the given file name: the content is emitted in blocks, each one fetched only
+	 * when the previous one has been consumed, so it is never buffered whole in memory.
+	 * </p>
+	 * 
+	 * @param filename The name of file to retrieve.
+	 * @return The blocks of the content of the file.
+	 */
+	public Multi<byte[]> streamBlob(String filename) {
+		return streamInRanges(new String[] { filename });
+	}
+
+	/**
+	 * <p>
+	 * Streams a blob with the given file name and path: the content is emitted in blocks, each one
+	 * fetched only when the previous one has been consumed, so it is never buffered whole in memory.
+	 * </p>
+	 * 
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The blocks of the content of the file.
+	 */
+	public Multi<byte[]> streamBlob(String segment1, String filename) {
+		return streamInRanges(new String[] { segment1, filename });
+	}
+
+	/**
+	 * <p>
+	 * Streams a blob with the given file name and path: the content is emitted in blocks, each one
+	 * fetched only when the previous one has been consumed, so it is never buffered whole in memory.
+	 * </p>
+	 * 
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The blocks of the content of the file.
+	 */
+	public Multi<byte[]> streamBlob(String segment1, String segment2, String filename) {
+		return streamInRanges(new String[] { segment1, segment2, filename });
+	}
+
+	/**
+	 * <p>
+	 * Streams a blob with the given file name and path: the content is emitted in blocks, each one
+	 * fetched only when the previous one has been consumed, so it is never buffered whole in memory.
+	 * </p>
+	 * 
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The blocks of the content of the file.
+	 */
+	public Multi<byte[]> streamBlob(String segment1, String segment2, String segment3, String filename) {
+		return streamInRanges(new String[] { segment1, segment2, segment3, filename });
+	}
+
+	/**
+	 * <p>
+	 * Streams a blob with the given file name and path: the content is emitted in blocks, each one
+	 * fetched only when the previous one has been consumed, so it is never buffered whole in memory.
+	 * </p>
+	 * 
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param segment4 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The blocks of the content of the file.
+	 */
+	public Multi<byte[]> streamBlob(String segment1, String segment2, String segment3, String segment4, String filename) {
+		return streamInRanges(new String[] { segment1, segment2, segment3, segment4, filename });
+	}
+
+	/**
+	 * <p>
+	 * Streams a blob with the given file name and path: the content is emitted in blocks, each one
+	 * fetched only when the previous one has been consumed, so it is never buffered whole in memory.
+	 * </p>
+	 * 
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param segment4 Segment of the path to file to retrieve.
+	 * @param segment5 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The blocks of the content of the file.
+	 */
+	public Multi<byte[]> streamBlob(String segment1, String segment2, String segment3, String segment4, String segment5, String filename) {
+		return streamInRanges(new String[] { segment1, segment2, segment3, segment4, segment5, filename });
+	}
+
+	/**
+	 * <p>
+	 * Streams a blob with the given file name and path: the content is emitted in blocks, each one
+	 * fetched only when the previous one has been consumed, so it is never buffered whole in memory.
+	 * </p>
+	 * 
+	 * @param segment1 Segment of the path to file to retrieve.
+	 * @param segment2 Segment of the path to file to retrieve.
+	 * @param segment3 Segment of the path to file to retrieve.
+	 * @param segment4 Segment of the path to file to retrieve.
+	 * @param segment5 Segment of the path to file to retrieve.
+	 * @param segment6 Segment of the path to file to retrieve.
+	 * @param filename The name of file to retrieve.
+	 * @return The blocks of the content of the file.
+	 */
+	public Multi<byte[]> streamBlob(String segment1, String segment2, String segment3, String segment4, String segment5, String segment6, String filename) {
+		return streamInRanges(new String[] { segment1, segment2, segment3, segment4, segment5, segment6, filename });
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name, uploading its content in a single request:
+	 * it is meant for small files.
+	 * </p>
+	 * 
+	 * @param content  Content of the file.
+	 * @param filename The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	public Uni<Response> putBlob(byte[] content, String filename) {
+		return authenticate(accessToken -> blobClient.putBlob(accessToken, content, filename));
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in a single
+	 * request: it is meant for small files.
+	 * </p>
+	 * 
+	 * @param content  Content of the file.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	public Uni<Response> putBlob(byte[] content, String segment1, String filename) {
+		return authenticate(accessToken -> blobClient.putBlob(accessToken, content, segment1, filename));
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in a single
+	 * request: it is meant for small files.
+	 * </p>
+	 * 
+	 * @param content  Content of the file.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param segment2 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	public Uni<Response> putBlob(byte[] content, String segment1, String segment2, String filename) {
+		return authenticate(accessToken -> blobClient.putBlob(accessToken, content, segment1, segment2, filename));
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in a single
+	 * request: it is meant for small files.
+	 * </p>
+	 * 
+	 * @param content  Content of the file.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param segment2 Segment of the path to file to upload.
+	 * @param segment3 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	public Uni<Response> putBlob(byte[] content, String segment1, String segment2, String segment3, String filename) {
+		return authenticate(accessToken -> blobClient.putBlob(accessToken, content, segment1, segment2, segment3, filename));
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in a single
+	 * request: it is meant for small files.
+	 * </p>
+	 * 
+	 * @param content  Content of the file.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param segment2 Segment of the path to file to upload.
+	 * @param segment3 Segment of the path to file to upload.
+	 * @param segment4 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	public Uni<Response> putBlob(byte[] content, String segment1, String segment2, String segment3, String segment4, String filename) {
+		return authenticate(accessToken -> blobClient.putBlob(accessToken, content, segment1, segment2, segment3, segment4, filename));
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in a single
+	 * request: it is meant for small files.
+	 * </p>
+	 * 
+	 * @param content  Content of the file.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param segment2 Segment of the path to file to upload.
+	 * @param segment3 Segment of the path to file to upload.
+	 * @param segment4 Segment of the path to file to upload.
+	 * @param segment5 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	public Uni<Response> putBlob(byte[] content, String segment1, String segment2, String segment3, String segment4, String segment5, String filename) {
+		return authenticate(accessToken -> blobClient.putBlob(accessToken, content, segment1, segment2, segment3, segment4, segment5, filename));
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in a single
+	 * request: it is meant for small files.
+	 * </p>
+	 * 
+	 * @param content  Content of the file.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param segment2 Segment of the path to file to upload.
+	 * @param segment3 Segment of the path to file to upload.
+	 * @param segment4 Segment of the path to file to upload.
+	 * @param segment5 Segment of the path to file to upload.
+	 * @param segment6 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	public Uni<Response> putBlob(byte[] content, String segment1, String segment2, String segment3, String segment4, String segment5, String segment6, String filename) {
+		return authenticate(accessToken -> blobClient.putBlob(accessToken, content, segment1, segment2, segment3, segment4, segment5, segment6, filename));
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name, uploading its content in blocks in
+	 * parallel.
+	 * </p>
+	 * 
+	 * @param content  Content of the file, in chunks of any size.
+	 * @param filename The name of file to upload.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> upload(Multi<byte[]> content, String filename) {
+		return uploadInBlocks(toBlocks(content), new String[] { filename });
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in blocks in
+	 * parallel.
+	 * </p>
+	 * 
+	 * @param content  Content of the file, in chunks of any size.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> upload(Multi<byte[]> content, String segment1, String filename) {
+		return uploadInBlocks(toBlocks(content), new String[] { segment1, filename });
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in blocks in
+	 * parallel.
+	 * </p>
+	 * 
+	 * @param content  Content of the file, in chunks of any size.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param segment2 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> upload(Multi<byte[]> content, String segment1, String segment2, String filename) {
+		return uploadInBlocks(toBlocks(content), new String[] { segment1, segment2, filename });
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in blocks in
+	 * parallel.
+	 * </p>
+	 * 
+	 * @param content  Content of the file, in chunks of any size.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param segment2 Segment of the path to file to upload.
+	 * @param segment3 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> upload(Multi<byte[]> content, String segment1, String segment2, String segment3, String filename) {
+		return uploadInBlocks(toBlocks(content), new String[] { segment1, segment2, segment3, filename });
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in blocks in
+	 * parallel.
+	 * </p>
+	 * 
+	 * @param content  Content of the file, in chunks of any size.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param segment2 Segment of the path to file to upload.
+	 * @param segment3 Segment of the path to file to upload.
+	 * @param segment4 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> upload(Multi<byte[]> content, String segment1, String segment2, String segment3, String segment4, String filename) {
+		return uploadInBlocks(toBlocks(content), new String[] { segment1, segment2, segment3, segment4, filename });
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in blocks in
+	 * parallel.
+	 * </p>
+	 * 
+	 * @param content  Content of the file, in chunks of any size.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param segment2 Segment of the path to file to upload.
+	 * @param segment3 Segment of the path to file to upload.
+	 * @param segment4 Segment of the path to file to upload.
+	 * @param segment5 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> upload(Multi<byte[]> content, String segment1, String segment2, String segment3, String segment4, String segment5, String filename) {
+		return uploadInBlocks(toBlocks(content), new String[] { segment1, segment2, segment3, segment4, segment5, filename });
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading its content in blocks in
+	 * parallel.
+	 * </p>
+	 * 
+	 * @param content  Content of the file, in chunks of any size.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param segment2 Segment of the path to file to upload.
+	 * @param segment3 Segment of the path to file to upload.
+	 * @param segment4 Segment of the path to file to upload.
+	 * @param segment5 Segment of the path to file to upload.
+	 * @param segment6 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> upload(Multi<byte[]> content, String segment1, String segment2, String segment3, String segment4, String segment5, String segment6, String filename) {
+		return uploadInBlocks(toBlocks(content), new String[] { segment1, segment2, segment3, segment4, segment5, segment6, filename });
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name, uploading the content of the given local
+	 * file in blocks in parallel.
+	 * </p>
+	 * 
+	 * @param file     Local file to upload.
+	 * @param filename The name of file to upload.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> uploadFile(Path file, String filename) {
+		return uploadInBlocks(readBlocks(file), new String[] { filename });
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading the content of the given
+	 * local file in blocks in parallel.
+	 * </p>
+	 * 
+	 * @param file     Local file to upload.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> uploadFile(Path file, String segment1, String filename) {
+		return uploadInBlocks(readBlocks(file), new String[] { segment1, filename });
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading the content of the given
+	 * local file in blocks in parallel.
+	 * </p>
+	 * 
+	 * @param file     Local file to upload.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param segment2 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> uploadFile(Path file, String segment1, String segment2, String filename) {
+		return uploadInBlocks(readBlocks(file), new String[] { segment1, segment2, filename });
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading the content of the given
+	 * local file in blocks in parallel.
+	 * </p>
+	 * 
+	 * @param file     Local file to upload.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param segment2 Segment of the path to file to upload.
+	 * @param segment3 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> uploadFile(Path file, String segment1, String segment2, String segment3, String filename) {
+		return uploadInBlocks(readBlocks(file), new String[] { segment1, segment2, segment3, filename });
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading the content of the given
+	 * local file in blocks in parallel.
+	 * </p>
+	 * 
+	 * @param file     Local file to upload.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param segment2 Segment of the path to file to upload.
+	 * @param segment3 Segment of the path to file to upload.
+	 * @param segment4 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> uploadFile(Path file, String segment1, String segment2, String segment3, String segment4, String filename) {
+		return uploadInBlocks(readBlocks(file), new String[] { segment1, segment2, segment3, segment4, filename });
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading the content of the given
+	 * local file in blocks in parallel.
+	 * </p>
+	 * 
+	 * @param file     Local file to upload.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param segment2 Segment of the path to file to upload.
+	 * @param segment3 Segment of the path to file to upload.
+	 * @param segment4 Segment of the path to file to upload.
+	 * @param segment5 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> uploadFile(Path file, String segment1, String segment2, String segment3, String segment4, String segment5, String filename) {
+		return uploadInBlocks(readBlocks(file), new String[] { segment1, segment2, segment3, segment4, segment5, filename });
+	}
+
+	/**
+	 * <p>
+	 * Creates or replaces a blob with the given file name and path, uploading the content of the given
+	 * local file in blocks in parallel.
+	 * </p>
+	 * 
+	 * @param file     Local file to upload.
+	 * @param segment1 Segment of the path to file to upload.
+	 * @param segment2 Segment of the path to file to upload.
+	 * @param segment3 Segment of the path to file to upload.
+	 * @param segment4 Segment of the path to file to upload.
+	 * @param segment5 Segment of the path to file to upload.
+	 * @param segment6 Segment of the path to file to upload.
+	 * @param filename The name of file to upload.
+	 * @return The size of the file.
+	 */
+	public Uni<Long> uploadFile(Path file, String segment1, String segment2, String segment3, String segment4, String segment5, String segment6, String filename) {
+		return uploadInBlocks(readBlocks(file), new String[] { segment1, segment2, segment3, segment4, segment5, segment6, filename });
+	}
+
+	/**
+	 * <p>
+	 * Returns the content of a blob with the given path, from the cache if it hasn't been modified.
+	 * </p>
+	 * <p>
+	 * If the cache has a copy of the blob, the request carries its {@code ETag} and
+	 * {@code Last-Modified} as {@code If-None-Match} and {@code If-Modified-Since}: if Azure Storage
+	 * Blob returns 304, the cached copy is returned and kept for another time-to-live, otherwise the
+	 * new one replaces it, unless it is larger than {@code azure-storage-blob.cache.max-blob-size}: in
+	 * this case it is returned and the cached copy is dropped.
+	 * </p>
+	 * 
+	 * @param path Segments of the path to file to retrieve, the last one is the file name.
+	 * @return The content of the file.
+	 */
+	private Uni<byte[]> getCachedBlob(String[] path) {
+		String name = String.join("/", path);
+		CachedBlob cached = blobCache.get(name);
+		String ifNoneMatch = cached != null ? cached.etag() : null;
+		String ifModifiedSince = cached != null ? cached.lastModified() : null;
+		return authenticate(accessToken -> getIfModified(accessToken, ifNoneMatch, ifModifiedSince, path))
+			.map(response -> {
+				if (cached != null && response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+					Log.debugf("%s not modified: cached copy will be returned", name);
+					response.close();
+					blobCache.put(name, cached);
+					return cached.content();
+				}
+
+				byte[] content = response.readEntity(byte[].class);
+				String etag = response.getHeaderString(HttpHeaders.ETAG);
+				String lastModified = response.getHeaderString(HttpHeaders.LAST_MODIFIED);
+				if (content.length > cacheMaxBlobSize) {
+					Log.debugf("%s is too large to be cached: %d bytes", name, content.length);
+					blobCache.remove(name);
+				} else if (etag != null || lastModified != null) {
+					blobCache.put(name, new CachedBlob(etag, lastModified, content));
+				}
+				return content;
+			});
+	}
+
+	/**
+	 * <p>
+	 * Returns a blob with the given path if it has been modified.
+	 * </p>
+	 * 
+	 * @param accessToken     The value of access token got by Microsoft Entra ID.
+	 * @param ifNoneMatch     ETag of the cached copy of the file or {@code null}.
+	 * @param ifModifiedSince Last-Modified of the cached copy of the file or {@code null}.
+	 * @param path            Segments of the path to file to retrieve, the last one is the file name.
+	 * @return If the file has been modified, the response body contains it, otherwise the status is
+	 *         304.
+	 */
+	private Uni<Response> getIfModified(String accessToken, String ifNoneMatch, String ifModifiedSince, String[] path) {
+		return switch (path.length) {
+			case 1 -> blobClient.getBlobIfModified(accessToken, ifNoneMatch, ifModifiedSince, path[0]);
+			case 2 -> blobClient.getBlobIfModified(accessToken, ifNoneMatch, ifModifiedSince, path[0], path[1]);
+			case 3 -> blobClient.getBlobIfModified(accessToken, ifNoneMatch, ifModifiedSince, path[0], path[1], path[2]);
+			case 4 -> blobClient.getBlobIfModified(accessToken, ifNoneMatch, ifModifiedSince, path[0], path[1], path[2], path[3]);
+			case 5 -> blobClient.getBlobIfModified(accessToken, ifNoneMatch, ifModifiedSince, path[0], path[1], path[2], path[3], path[4]);
+			case 6 -> blobClient.getBlobIfModified(accessToken, ifNoneMatch, ifModifiedSince, path[0], path[1], path[2], path[3], path[4], path[5]);
+			default -> blobClient.getBlobIfModified(accessToken, ifNoneMatch, ifModifiedSince, path[0], path[1], path[2], path[3], path[4], path[5], path[6]);
+		};
+	}
+
+	/**
+	 * <p>
+	 * Returns a range of bytes of a blob with the given path.
+	 * </p>
+	 * 
+	 * @param range   The range of bytes to retrieve, as {@code bytes=<first>-<last>}.
+	 * @param ifMatch ETag the blob must have or {@code null}: if the blob has been modified, Azure
+	 *                Storage Blob returns 412.
+	 * @param path    Segments of the path to file to retrieve, the last one is the file name.
+	 * @return If the range is retrieved successfully, the response body contains it.
+	 */
+	private Uni<Response> getRange(String range, String ifMatch, String[] path) {
+		return authenticate(accessToken -> switch (path.length) {
+			case 1 -> blobClient.getBlobRange(accessToken, range, ifMatch, path[0]);
+			case 2 -> blobClient.getBlobRange(accessToken, range, ifMatch, path[0], path[1]);
+			case 3 -> blobClient.getBlobRange(accessToken, range, ifMatch, path[0], path[1], path[2]);
+			case 4 -> blobClient.getBlobRange(accessToken, range, ifMatch, path[0], path[1], path[2], path[3]);
+			case 5 -> blobClient.getBlobRange(accessToken, range, ifMatch, path[0], path[1], path[2], path[3], path[4]);
+			case 6 -> blobClient.getBlobRange(accessToken, range, ifMatch, path[0], path[1], path[2], path[3], path[4], path[5]);
+			default -> blobClient.getBlobRange(accessToken, range, ifMatch, path[0], path[1], path[2], path[3], path[4], path[5], path[6]);
+		});
+	}
+
+	/**
+	 * <p>
+	 * Downloads a blob into the given channel.
+	 * </p>
+	 * <p>
+	 * The first block is fetched to get the size of the file from {@code Content-Range}, then the
+	 * other blocks are fetched concurrently, at most {@code azure-storage-blob.download.concurrency}
+	 * at a time, and each one is written at its offset as soon as it is received: the order of arrival
+	 * doesn't matter and at most {@code concurrency} blocks are kept in memory. Every range request is
+	 * idempotent, so it is retried on its own in case of transient failures.
+	 * </p>
+	 * <p>
+	 * The other blocks are requested with the {@code ETag} of the first one as {@code If-Match}, so
+	 * that all blocks come from the same version of the blob: if it is modified during the download,
+	 * Azure Storage Blob returns 412 and the download fails, instead of mixing two versions.
+	 * </p>
+	 * 
+	 * @param channel Channel to write the content of the file to.
+	 * @param path    Segments of the path to file to retrieve, the last one is the file name.
+	 * @return The size of the file.
+	 */
+	private Uni<Long> downloadInParallel(FileChannel channel, String[] path) {
+		long blockSize = downloadBlockSize;
+		return getRange(range(0, blockSize), null, path)
+			.onFailure(WebAppExcUtils::isRangeNotSatisfiable) // The file is empty.
+			.recoverWithNull()
+			.chain(first -> {
+				if (first == null) {
+					return Uni.createFrom().item(0L);
+				}
+
+				byte[] block = first.readEntity(byte[].class);
+				long size = getSize(first, block.length);
+				String etag = first.getHeaderString(HttpHeaders.ETAG);
+				Log.debugf("Size of the file: %d bytes, ETag: %s", size, etag);
+
+				List<Long> offsets = new ArrayList<>();
+				for (long offset = block.length; offset < size; offset += blockSize) {
+					offsets.add(offset);
+				}
+
+				Uni<Void> others = Multi.createFrom()
+					.iterable(offsets)
+					.onItem()
+					.transformToUni(offset -> downloadBlock(channel, etag, path, offset, Math.min(offset + blockSize, size)))
+					.merge(downloadConcurrency)
+					.onItem()
+					.ignoreAsUni();
+
+				return write(channel, block, 0)
+					.chain(() -> others)
+					.replaceWith(size);
+			});
+	}
+
+	/**
+	 * <p>
+	 * Downloads a block of a blob into the given channel.
+	 * </p>
+	 * 
+	 * @param channel Channel to write the block to.
+	 * @param etag    ETag of the first block, which the blob must still have.
+	 * @param path    Segments of the path to file to retrieve, the last one is the file name.
+	 * @param start   Offset of the first byte of the block (inclusive).
+	 * @param end     Offset of the last byte of the block (exclusive).
+	 * @return Nothing.
+	 */
+	private Uni<Void> downloadBlock(FileChannel channel, String etag, String[] path, long start, long end) {
+		return getBlock(etag, path, start, end)
+			.chain(block -> write(channel, block, start));
+	}
+
+	/**
+	 * <p>
+	 * Returns a block of a blob, verifying that it has the expected length.
+	 * </p>
+	 * 
+	 * @param etag  ETag of the first block, which the blob must still have.
+	 * @param path  Segments of the path to file to retrieve, the last one is the file name.
+	 * @param start Offset of the first byte of the block (inclusive).
+	 * @param end   Offset of the last byte of the block (exclusive).
+	 * @return The content of the block.
+	 */
+	private Uni<byte[]> getBlock(String etag, String[] path, long start, long end) {
+		return getRange(range(start, end), etag, path)
+			.onFailure(WebAppExcUtils::isPreconditionFailed)
+			.invoke(() -> Log.errorf("%s has been modified during the download", String.join("/", path)))
+			.chain(response -> {
+				byte[] block = response.readEntity(byte[].class);
+				if (block.length != end - start) {
+					Log.errorf("Unexpected length of range %d-%d: %d", start, end, block.length);
+					return Uni.createFrom().failure(new IOException("Unexpected length of range"));
+				}
+				return Uni.createFrom().item(block);
+			});
+	}
+
+	/**
+	 * <p>
+	 * Streams a blob in blocks.
+	 * </p>
+	 * <p>
+	 * The REST client emits the body of a response in chunks only if it is chunked or server-sent
+	 * events: Azure Storage Blob returns blobs with {@code Content-Length}, so they would be buffered
+	 * whole. For this reason the blob is read by means of sequential range requests of
+	 * {@code azure-storage-blob.download.block-size} bytes: the first one gets the size of the file
+	 * from {@code Content-Range}, then every other one is sent only when the subscriber requests the
+	 * next block, so at most one block is kept in memory.
+	 * </p>
+	 * <p>
+	 * As for parallel downloads, the other blocks are pinned to the {@code ETag} of the first one and
+	 * every range request is retried on its own in case of transient failures, so the blocks already
+	 * emitted are never emitted again.
+	 * </p>
+	 * 
+	 * @param path Segments of the path to file to retrieve, the last one is the file name.
+	 * @return The blocks of the content of the file.
+	 */
+	private Multi<byte[]> streamInRanges(String[] path) {
+		long blockSize = downloadBlockSize;
+		return getRange(range(0, blockSize), null, path)
+			.onFailure(WebAppExcUtils::isRangeNotSatisfiable) // The file is empty.
+			.recoverWithNull()
+			.onItem()
+			.transformToMulti(first -> {
+				if (first == null) {
+					return Multi.createFrom().empty();
+				}
+
+				byte[] block = first.readEntity(byte[].class);
+				long size = getSize(first, block.length);
+				String etag = first.getHeaderString(HttpHeaders.ETAG);
+				Log.debugf("Size of the file: %d bytes, ETag: %s", size, etag);
+
+				List<Long> offsets = new ArrayList<>();
+				for (long offset = block.length; offset < size; offset += blockSize) {
+					offsets.add(offset);
+				}
+
+				Multi<byte[]> others = Multi.createFrom()
+					.iterable(offsets)
+					.onItem()
+					.transformToUniAndConcatenate(offset -> getBlock(etag, path, offset, Math.min(offset + blockSize, size)));
+
+				return Multi.createBy()
+					.concatenating()
+					.streams(Multi.createFrom().item(block), others);
+			});
+	}
+
+	/**
+	 * <p>
+	 * Downloads a blob into the given local file.
+	 * </p>
+	 * <p>
+	 * The blob is downloaded into a temporary sibling file with a unique name, so that concurrent
+	 * downloads to the same file never write into the same temporary one. The temporary file is synced
+	 * to the storage device and then atomically moved to the given one: readers never see a partial
+	 * file, even if the process crashes. If the download fails, the temporary file is deleted and the given one is left as it
+	 * was: this includes the blob being modified during the download, because all blocks are pinned to
+	 * the {@code ETag} of the first one, so a torn file is never published.
+	 * </p>
+	 * 
+	 * @param file Local file to write the content of the blob to.
+	 * @param path Segments of the path to file to retrieve, the last one is the file name.
+	 * @return The size of the file.
+	 */
+	private Uni<Long> downloadToFile(Path file, String[] path) {
+		return blocking(() -> Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".part"))
+			.chain(part -> blocking(() -> FileChannel.open(part, StandardOpenOption.WRITE))
+				.chain(channel -> downloadInParallel(channel, path)
+					.call(() -> blocking(() -> {
+						channel.force(true);
+						return null;
+					}))
+					.eventually(() -> blocking(() -> {
+						channel.close();
+						return null;
+					})))
+				.call(() -> blocking(() -> Files.move(part, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING)))
+				.onFailure()
+				.call(() -> blocking(() -> Files.deleteIfExists(part))));
+	}
+
+	/**
+	 * <p>
+	 * Writes the given bytes into the given channel at the given position, on a worker thread.
+	 * </p>
+	 * <p>
+	 * Positional writes don't change the position of the channel, so they can be done concurrently.
+	 * The bytes are wrapped, not copied, into the buffer passed to the channel.
+	 * </p>
+	 * 
+	 * @param channel  Channel to write to.
+	 * @param data     Bytes to write.
+	 * @param position Position in the channel.
+	 * @return Nothing.
+	 */
+	private static Uni<Void> write(FileChannel channel, byte[] data, long position) {
+		return blocking(() -> {
+			ByteBuffer buffer = ByteBuffer.wrap(data);
+			long offset = position;
+			while (buffer.hasRemaining()) {
+				offset += channel.write(buffer, offset);
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * <p>
+	 * Executes the given blocking I/O action on a worker thread.
+	 * </p>
+	 * 
+	 * @param <T>    Type of the result of the action.
+	 * @param action Action to execute.
+	 * @return The result of the action.
+	 */
+	private static <T> Uni<T> blocking(Callable<T> action) {
+		return Uni.createFrom()
+			.<T>emitter(emitter -> {
+				try {
+					emitter.complete(action.call());
+				} catch (Exception e) {
+					emitter.fail(e);
+				}
+			})
+			.runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+	}
+
+	/**
+	 * <p>
+	 * Uploads a blob in blocks.
+	 * </p>
+	 * <p>
+	 * The blocks are uploaded concurrently, at most {@code azure-storage-blob.upload.concurrency} at a
+	 * time: since they are requested from the source only when there is room for them, at most
+	 * {@code concurrency} blocks are kept in memory. Every block has an ID derived from its index, so
+	 * when all of them have been uploaded, they are committed in order by means of a single Put Block
+	 * List. Every request is idempotent, so it is retried on its own in case of transient failures.
+	 * </p>
+	 * 
+	 * @param blocks Blocks of the file.
+	 * @param path   Segments of the path to file to upload, the last one is the file name.
+	 * @return The size of the file.
+	 */
+	private Uni<Long> uploadInBlocks(Multi<Block> blocks, String[] path) {
+		return blocks.onItem()
+			.transformToUni(block -> putBlock(blockId(block.index()), block.data(), path)
+				.replaceWith(block))
+			.merge(uploadConcurrency)
+			.collect()
+			.in(BlockCounter::new, BlockCounter::add)
+			.chain(counter -> {
+				Log.debugf("%d blocks uploaded: %d bytes", counter.count, counter.size);
+				StringBuilder blockList = new StringBuilder("<?xml version=\"1.0\" encoding=\"utf-8\"?><BlockList>");
+				for (int index = 0; index < counter.count; index++) {
+					blockList.append("<Latest>").append(blockId(index)).append("</Latest>");
+				}
+				blockList.append("</BlockList>");
+				return putBlockList(blockList.toString(), path)
+					.replaceWith(counter.size);
+			});
+	}
+
+	/**
+	 * <p>
+	 * Splits the given chunks of bytes in blocks of {@code azure-storage-blob.upload.block-size}
+	 * bytes, but the last one which can be shorter.
+	 * </p>
+	 * 
+	 * @param content Chunks of any size.
+	 * @return Blocks.
+	 */
+	private Multi<Block> toBlocks(Multi<byte[]> content) {
+		int blockSize = uploadBlockSize;
+		return Multi.createFrom()
+			.deferred(() -> {
+				BlockSplitter splitter = new BlockSplitter(blockSize);
+				return content.onItem()
+					.transformToIterable(splitter::add)
+					.onCompletion()
+					.switchTo(() -> Multi.createFrom().iterable(splitter.flush()));
+			});
+	}
+
+	/**
+	 * <p>
+	 * Reads the given local file in blocks of {@code azure-storage-blob.upload.block-size} bytes, but
+	 * the last one which can be shorter. Every block is read, on a worker thread, only when it is
+	 * requested.
+	 * </p>
+	 * <p>
+	 * The file is opened and closed on a worker thread too, so the subscribing thread, which may be an
+	 * event loop, is never blocked.
+	 * </p>
+	 * 
+	 * @param file Local file to read.
+	 * @return Blocks.
+	 */
+	private Multi<Block> readBlocks(Path file) {
+		int blockSize = uploadBlockSize;
+		return blocking(() -> FileChannel.open(file, StandardOpenOption.READ))
+			.onItem()
+			.transformToMulti(channel -> blocking(channel::size)
+				.onItem()
+				.transformToMulti(size -> Multi.createFrom().range(0, (int) ((size + blockSize - 1) / blockSize)))
+				.onItem()
+				.transformToUniAndConcatenate(index -> blocking(() -> {
+					ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(blockSize, channel.size() - (long) index * blockSize));
+					long offset = (long) index * blockSize;
+					while (buffer.hasRemaining()) {
+						int read = channel.read(buffer, offset);
+						if (read < 0) {
+							throw new IOException("Unexpected end of file");
+						}
+						offset += read;
+					}
+					return new Block(index, buffer.array());
+				}))
+				.onTermination()
+				.call((failure, cancelled) -> blocking(() -> {
+					try {
+						channel.close();
+					} catch (IOException e) {
+						Log.warnf(e, "Error closing %s", file);
+					}
+					return null;
+				})));
+	}
+
+	/**
+	 * <p>
+	 * Uploads a block of a blob with the given path.
+	 * </p>
+	 * 
+	 * @param blockId Base64 ID of the block.
+	 * @param block   Content of the block.
+	 * @param path    Segments of the path to file to upload, the last one is the file name.
+	 * @return If the block is uploaded successfully, the status is 201.
+	 */
+	private Uni<Response> putBlock(String blockId, byte[] block, String[] path) {
+		return authenticate(accessToken -> switch (path.length) {
+			case 1 -> blobClient.putBlock(accessToken, blockId, block, path[0]);
+			case 2 -> blobClient.putBlock(accessToken, blockId, block, path[0], path[1]);
+			case 3 -> blobClient.putBlock(accessToken, blockId, block, path[0], path[1], path[2]);
+			case 4 -> blobClient.putBlock(accessToken, blockId, block, path[0], path[1], path[2], path[3]);
+			case 5 -> blobClient.putBlock(accessToken, blockId, block, path[0], path[1], path[2], path[3], path[4]);
+			case 6 -> blobClient.putBlock(accessToken, blockId, block, path[0], path[1], path[2], path[3], path[4], path[5]);
+			default -> blobClient.putBlock(accessToken, blockId, block, path[0], path[1], path[2], path[3], path[4], path[5], path[6]);
+		});
+	}
+
+	/**
+	 * <p>
+	 * Commits the given list of uploaded blocks of a blob with the given path.
+	 * </p>
+	 * 
+	 * @param blockList XML list of the IDs of the blocks.
+	 * @param path      Segments of the path to file to upload, the last one is the file name.
+	 * @return If the file is created successfully, the status is 201.
+	 */
+	private Uni<Response> putBlockList(String blockList, String[] path) {
+		return authenticate(accessToken -> switch (path.length) {
+			case 1 -> blobClient.putBlockList(accessToken, blockList, path[0]);
+			case 2 -> blobClient.putBlockList(accessToken, blockList, path[0], path[1]);
+			case 3 -> blobClient.putBlockList(accessToken, blockList, path[0], path[1], path[2]);
+			case 4 -> blobClient.putBlockList(accessToken, blockList, path[0], path[1], path[2], path[3]);
+			case 5 -> blobClient.putBlockList(accessToken, blockList, path[0], path[1], path[2], path[3], path[4]);
+			case 6 -> blobClient.putBlockList(accessToken, blockList, path[0], path[1], path[2], path[3], path[4], path[5]);
+			default -> blobClient.putBlockList(accessToken, blockList, path[0], path[1], path[2], path[3], path[4], path[5], path[6]);
+		});
+	}
+
+	/**
+	 * <p>
+	 * Returns the ID of the block with the given index: all the IDs have the same length, as required
+	 * by Azure Storage Blob.
+	 * </p>
+	 * 
+	 * @param index Index of the block.
+	 * @return Base64 ID of the block.
+	 */
+	private static String blockId(int index) {
+		return Base64.getEncoder().encodeToString(String.format("%010d", index).getBytes(StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * <p>
+	 * Returns the value of {@code x-ms-range} for the given range.
+	 * </p>
+	 * 
+	 * @param start Offset of the first byte (inclusive).
+	 * @param end   Offset of the last byte (exclusive).
+	 * @return The value of {@code x-ms-range}.
+	 */
+	private static String range(long start, long end) {
+		return String.format("bytes=%d-%d", start, end - 1);
+	}
+
+	/**
+	 * <p>
+	 * Returns the size of the file from {@code Content-Range} of a ranged response.
+	 * </p>
+	 * 
+	 * @param response Response to a range request.
+	 * @param length   Length of the body of the response, used when the whole file has been returned.
+	 * @return The size of the file.
+	 */
+	private static long getSize(Response response, int length) {
+		String contentRange = response.getHeaderString("Content-Range");
+		if (contentRange == null) {
+			return length;
+		}
+		return Long.parseLong(contentRange.substring(contentRange.lastIndexOf('/') + 1));
+	}
+
+	/**
+	 * <p>
+	 * Cached copy of a blob.
+	 * </p>
+	 * 
+	 * @param etag         ETag of the blob.
+	 * @param lastModified Last-Modified of the blob.
+	 * @param content      Content of the blob.
+	 */
+	private record CachedBlob(String etag, String lastModified, byte[] content) {
+	}
+
+	/**
+	 * <p>
+	 * Block of a blob to upload.
+	 * </p>
+	 * 
+	 * @param index Index of the block in the blob.
+	 * @param data  Content of the block.
+	 */
+	private record Block(int index, byte[] data) {
+	}
+
+	/**
+	 * <p>
+	 * Splits chunks of bytes of any size in blocks of the given size.
+	 * </p>
+	 */
+	private static class BlockSplitter {
+		/*
+		 * Size of blocks.
+		 */
+		private final int blockSize;
+
+		/*
+		 * Block being filled.
+		 */
+		private byte[] current;
+
+		/*
+		 * Number of bytes in the block being filled.
+		 */
+		private int length;
+
+		/*
+		 * Index of the block being filled.
+		 */
+		private int index;
+
+		/**
+		 * <p>
+		 * Constructor.
+		 * </p>
+		 * 
+		 * @param blockSize Size of blocks.
+		 */
+		BlockSplitter(int blockSize) {
+			this.blockSize = blockSize;
+			this.current = new byte[blockSize];
+		}
+
+		/**
+		 * <p>
+		 * Adds a chunk of bytes.
+		 * </p>
+		 * 
+		 * @param chunk Chunk of bytes.
+		 * @return The blocks which have been filled.
+		 */
+		List<Block> add(byte[] chunk) {
+			List<Block> blocks = new ArrayList<>();
+			int position = 0;
+			while (position < chunk.length) {
+				int count = Math.min(chunk.length - position, blockSize - length);
+				System.arraycopy(chunk, position, current, length, count);
+				position += count;
+				length += count;
+				if (length == blockSize) {
+					blocks.add(new Block(index++, current));
+					current = new byte[blockSize];
+					length = 0;
+				}
+			}
+			return blocks;
+		}
+
+		/**
+		 * <p>
+		 * Returns the last block, if it isn't empty.
+		 * </p>
+		 * 
+		 * @return The last block or nothing.
+		 */
+		List<Block> flush() {
+			if (length == 0) {
+				return List.of();
+			}
+			return List.of(new Block(index++, Arrays.copyOf(current, length)));
+		}
+	}
+
+	/**
+	 * <p>
+	 * Counts the uploaded blocks and their bytes.
+	 * </p>
+	 */
+	private static class BlockCounter {
+		/*
+		 * Number of blocks.
+		 */
+		private int count;
+
+		/*
+		 * Number of bytes.
+		 */
+		private long size;
+
+		/**
+		 * <p>
+		 * Counts the given block.
+		 * </p>
+		 * 
+		 * @param block Uploaded block.
+		 */
+		void add(Block block) {
+			count++;
+			size += block.data().length;
+		}
 	}
 }
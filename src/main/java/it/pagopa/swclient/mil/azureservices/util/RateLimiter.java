@@ -0,0 +1,123 @@
+/*
+ * RateLimiter.java
+ *
+ * 17 ott 2026
+ */
+package it.pagopa.swclient.mil.azureservices.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Thread-safe, lock-free rate limiter which allows a given number of requests per period, in
+ * bursts too, as a token bucket whose capacity is the number of requests and which is refilled
+ * continuously in the period. It is implemented by means of the generic cell rate algorithm.
+ * </p>
+ * <p>
+ * The limiter never rejects a request: it returns how long the request has to wait to stay under
+ * the limit, so the caller can delay it without blocking any thread. When the invoked service
+ * replies that it is throttling the requests, the limiter can be paused, so that all the callers
+ * slow down instead of bouncing off the service.
+ * </p>
+ * <p>
+ * If the number of requests is not greater than zero, the limiter is disabled: requests never
+ * wait.
+ * </p>
+ * 
+ * @author Antonio Tarricone
+ */
+public class RateLimiter {
+	/**
+	 * <p>
+	 * Time between two requests at the steady rate, in nanoseconds.
+	 * </p>
+	 */
+	private final long interval;
+
+	/**
+	 * <p>
+	 * How much a request can be early in respect of the steady rate, in nanoseconds.
+	 * </p>
+	 */
+	private final long tolerance;
+
+	/**
+	 * <p>
+	 * Theoretical arrival time of the next request, in nanoseconds as of {@link System#nanoTime()}.
+	 * </p>
+	 */
+	private final AtomicLong tat;
+
+	/**
+	 * <p>
+	 * Constructor.
+	 * </p>
+	 * 
+	 * @param requests     Max number of requests in the period.
+	 * @param periodMillis Period in milliseconds.
+	 */
+	public RateLimiter(int requests, long periodMillis) {
+		if (requests > 0) {
+			long period = periodMillis * 1_000_000L;
+			interval = period / requests;
+			tolerance = period - interval;
+		} else {
+			interval = 0;
+			tolerance = 0;
+		}
+		tat = new AtomicLong(System.nanoTime());
+	}
+
+	/**
+	 * <p>
+	 * Returns {@code true} if the limiter is enabled.
+	 * </p>
+	 * 
+	 * @return {@code true} if the limiter is enabled, {@code false} otherwise.
+	 */
+	public boolean isEnabled() {
+		return interval > 0;
+	}
+
+	/**
+	 * <p>
+	 * Reserves the execution of a request.
+	 * </p>
+	 * 
+	 * @return How long the request has to wait before its execution.
+	 */
+	public Duration reserve() {
+		if (!isEnabled()) {
+			return Duration.ZERO;
+		}
+
+		long now = System.nanoTime();
+		long current;
+		long base;
+		do {
+			current = tat.get();
+			base = current - now > 0 ? current : now;
+		} while (!tat.compareAndSet(current, base + interval));
+
+		long wait = base - tolerance - now;
+		return wait > 0 ? Duration.ofNanos(wait) : Duration.ZERO;
+	}
+
+	/**
+	 * <p>
+	 * Pauses the requests for the given time: the requests reserved from now on will wait for it at
+	 * least.
+	 * </p>
+	 * 
+	 * @param pause The time to wait.
+	 */
+	public void pause(Duration pause) {
+		if (!isEnabled()) {
+			return;
+		}
+
+		long target = System.nanoTime() + pause.toNanos() + tolerance;
+		tat.accumulateAndGet(target, (current, min) -> current - min > 0 ? current : min);
+	}
+}
@@ -0,0 +1,292 @@
+/*
+ * RetryPolicy.java
+ *
+ * 17 ott 2026
+ */
+package it.pagopa.swclient.mil.azureservices.util;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.WebApplicationException;
+
+/**
+ * <p>
+ * Thread-safe resilience policy for the invocation of Azure services, shared by all the operations
+ * of a service.
+ * </p>
+ * <p>
+ * A failed operation is retried, at most the given number of times, when the failure is transient:
+ * </p>
+ * <ul>
+ * <li>429 and 503, because the request hasn't been processed, and connection failures, because the
+ * request hasn't been sent, are always retried;</li>
+ * <li>other 5xx, I/O errors and timeouts are retried only if the operation is idempotent, because
+ * the request could have been processed.</li>
+ * </ul>
+ * <p>
+ * Before retrying, the policy waits for the time suggested by {@code Retry-After} or, if it is
+ * missing, for an exponential back-off with jitter. When {@code Retry-After} is received, the given
+ * {@link RateLimiter} is paused, so that all the operations slow down. Every attempt, the first
+ * included, waits for the permission of the rate limiter.
+ * </p>
+ * <p>
+ * To prevent retry storms when the service is unavailable, retries are limited by a budget: every
+ * operation deposits a fraction of retry, every retry withdraws one, and the balance never exceeds
+ * the given max. If the max is not greater than zero, the budget is unlimited.
+ * </p>
+ * 
+ * @author Antonio Tarricone
+ */
+public class RetryPolicy {
+	/**
+	 * <p>
+	 * Unit of the retry budget: the balance is kept in thousandths of retry.
+	 * </p>
+	 */
+	private static final long RETRY = 1000;
+
+	/**
+	 * <p>
+	 * Initial back-off.
+	 * </p>
+	 */
+	private final Duration initialBackoff;
+
+	/**
+	 * <p>
+	 * Jitter of back-off: it must be in [0; 1].
+	 * </p>
+	 */
+	private final double jitter;
+
+	/**
+	 * <p>
+	 * Max number of retries for every operation.
+	 * </p>
+	 */
+	private final int maxRetries;
+
+	/**
+	 * <p>
+	 * Fraction of retry deposited by every operation, in thousandths of retry.
+	 * </p>
+	 */
+	private final long budgetDeposit;
+
+	/**
+	 * <p>
+	 * Max balance of the retry budget, in thousandths of retry.
+	 * </p>
+	 */
+	private final long budgetMax;
+
+	/**
+	 * <p>
+	 * Balance of the retry budget, in thousandths of retry.
+	 * </p>
+	 */
+	private final AtomicLong budget;
+
+	/**
+	 * <p>
+	 * Rate limiter for all the attempts.
+	 * </p>
+	 */
+	private final RateLimiter rateLimiter;
+
+	/**
+	 * <p>
+	 * Constructor.
+	 * </p>
+	 * 
+	 * @param initialBackoff Initial back-off.
+	 * @param jitter         Jitter of back-off: it must be in [0; 1].
+	 * @param maxRetries     Max number of retries for every operation.
+	 * @param budgetRatio    Fraction of retry deposited by every operation.
+	 * @param budgetMax      Max number of retries which can be saved in the budget, 0 means unlimited
+	 *                       budget.
+	 * @param rateLimiter    Rate limiter for all the attempts.
+	 */
+	public RetryPolicy(Duration initialBackoff, double jitter, int maxRetries, double budgetRatio, int budgetMax, RateLimiter rateLimiter) {
+		this.initialBackoff = initialBackoff;
+		this.jitter = jitter;
+		this.maxRetries = maxRetries;
+		this.budgetDeposit = (long) (budgetRatio * RETRY);
+		this.budgetMax = budgetMax * RETRY;
+		this.budget = new AtomicLong(this.budgetMax);
+		this.rateLimiter = rateLimiter;
+	}
+
+	/**
+	 * <p>
+	 * Executes the given operation applying this policy.
+	 * </p>
+	 * 
+	 * @param <T>        Type of the item emitted by the operation.
+	 * @param operation  Operation to execute.
+	 * @param idempotent {@code true} if the operation can be executed more times with the same effect.
+	 * @return The item emitted by the operation.
+	 */
+	public <T> Uni<T> apply(Supplier<Uni<T>> operation, boolean idempotent) {
+		return Uni.createFrom()
+			.deferred(() -> {
+				deposit();
+				return attempt(operation, idempotent, 0);
+			});
+	}
+
+	/**
+	 * <p>
+	 * Executes the given attempt of the operation, retrying it if needed.
+	 * </p>
+	 * 
+	 * @param <T>        Type of the item emitted by the operation.
+	 * @param operation  Operation to execute.
+	 * @param idempotent {@code true} if the operation can be executed more times with the same effect.
+	 * @param retries    Number of retries already done.
+	 * @return The item emitted by the operation.
+	 */
+	private <T> Uni<T> attempt(Supplier<Uni<T>> operation, boolean idempotent, int retries) {
+		return limit(operation)
+			.onFailure(f -> isTransient(f, idempotent))
+			.recoverWithUni(f -> {
+				if (retries >= maxRetries) {
+					Log.debug("Max number of retries reached");
+					return Uni.createFrom().failure(f);
+				}
+
+				if (!withdraw()) {
+					Log.warn("Retry budget exhausted");
+					return Uni.createFrom().failure(f);
+				}
+
+				Duration delay = WebAppExcUtils.getRetryAfter(f);
+				if (delay != null) {
+					Log.debugf("Retry after %s as requested by the service", delay);
+					rateLimiter.pause(delay);
+				} else {
+					delay = getBackoff(retries);
+					Log.debugf("Retry after %s", delay);
+				}
+
+				Uni<Void> wait = Uni.createFrom().voidItem();
+				if (!delay.isZero()) {
+					wait = wait.onItem()
+						.delayIt()
+						.by(delay);
+				}
+
+				return wait.chain(() -> attempt(operation, idempotent, retries + 1));
+			});
+	}
+
+	/**
+	 * <p>
+	 * Executes the given operation when the rate limiter allows it.
+	 * </p>
+	 * 
+	 * @param <T>       Type of the item emitted by the operation.
+	 * @param operation Operation to execute.
+	 * @return The item emitted by the operation.
+	 */
+	private <T> Uni<T> limit(Supplier<Uni<T>> operation) {
+		Duration wait = rateLimiter.reserve();
+		if (wait.isZero()) {
+			return Uni.createFrom().deferred(operation);
+		}
+
+		Log.tracef("Request delayed by rate limiter: %s", wait);
+		return Uni.createFrom()
+			.voidItem()
+			.onItem()
+			.delayIt()
+			.by(wait)
+			.chain(operation);
+	}
+
+	/**
+	 * <p>
+	 * Returns the exponential back-off with jitter for the given retry.
+	 * </p>
+	 * 
+	 * @param retries Number of retries already done.
+	 * @return The time to wait before retrying.
+	 */
+	private Duration getBackoff(int retries) {
+		long backoff = initialBackoff.toMillis() << Math.min(retries, 16);
+		double factor = 1 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+		return Duration.ofMillis((long) (backoff * factor));
+	}
+
+	/**
+	 * <p>
+	 * Deposits the fraction of retry of an operation in the budget.
+	 * </p>
+	 */
+	private void deposit() {
+		if (budgetMax > 0) {
+			budget.accumulateAndGet(budgetDeposit, (balance, deposit) -> Math.min(balance + deposit, budgetMax));
+		}
+	}
+
+	/**
+	 * <p>
+	 * Withdraws a retry from the budget.
+	 * </p>
+	 * 
+	 * @return {@code true} if the retry is allowed, {@code false} if the budget is exhausted.
+	 */
+	private boolean withdraw() {
+		if (budgetMax <= 0) {
+			return true;
+		}
+
+		long balance;
+		do {
+			balance = budget.get();
+			if (balance < RETRY) {
+				return false;
+			}
+		} while (!budget.compareAndSet(balance, balance - RETRY));
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * Verifies if a failure is transient, so the operation can be retried.
+	 * </p>
+	 * <p>
+	 * The chain of causes is walked, because the REST client wraps I/O failures (e.g. in
+	 * {@link jakarta.ws.rs.ProcessingException ProcessingException}).
+	 * </p>
+	 * 
+	 * @param failure    Failure to verify.
+	 * @param idempotent {@code true} if the operation can be executed more times with the same effect.
+	 * @return {@code true} if the operation can be retried, {@code false} otherwise.
+	 */
+	static boolean isTransient(Throwable failure, boolean idempotent) {
+		for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+			if (cause instanceof WebApplicationException webException) {
+				int status = webException.getResponse().getStatus();
+				return status == 429 || status == 503 || (idempotent && status >= 500);
+			}
+
+			if (cause instanceof ConnectException) {
+				return true;
+			}
+
+			if (idempotent && (cause instanceof IOException || cause instanceof TimeoutException)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * TimedCache.java
+ *
+ * 17 ott 2026
+ */
+package it.pagopa.swclient.mil.azureservices.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * Thread-safe in-memory cache whose entries expire after a given time-to-live. When the max size is
+ * reached, the least recently used entry is evicted.
+ * </p>
+ * <p>
+ * If the time-to-live is not greater than zero, the cache is disabled: nothing is stored and nothing
+ * is found.
+ * </p>
+ * 
+ * @param <K> Type of the keys.
+ * @param <V> Type of the values.
+ * @author Antonio Tarricone
+ */
+public class TimedCache<K, V> {
+	/**
+	 * <p>
+	 * Time-to-live of the entries in nanoseconds.
+	 * </p>
+	 */
+	private final long ttl;
+
+	/**
+	 * <p>
+	 * Entries in access order.
+	 * </p>
+	 */
+	private final LinkedHashMap<K, Entry<V>> entries;
+
+	/**
+	 * <p>
+	 * Constructor.
+	 * </p>
+	 * 
+	 * @param ttlMillis Time-to-live of the entries in milliseconds.
+	 * @param maxSize   Max number of entries.
+	 */
+	public TimedCache(long ttlMillis, int maxSize) {
+		this.ttl = ttlMillis * 1_000_000L;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * <p>
+	 * Returns {@code true} if the cache is enabled.
+	 * </p>
+	 * 
+	 * @return {@code true} if the cache is enabled, {@code false} otherwise.
+	 */
+	public boolean isEnabled() {
+		return ttl > 0;
+	}
+
+	/**
+	 * <p>
+	 * Returns the value associated to the given key if it isn't expired.
+	 * </p>
+	 * 
+	 * @param key The key.
+	 * @return The value or {@code null} if it isn't present or it is expired.
+	 */
+	public synchronized V get(K key) {
+		Entry<V> entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAt() - System.nanoTime() <= 0) {
+			entries.remove(key);
+			return null;
+		}
+		return entry.value();
+	}
+
+	/**
+	 * <p>
+	 * Associates the given value to the given key.
+	 * </p>
+	 * 
+	 * @param key   The key.
+	 * @param value The value.
+	 */
+	public synchronized void put(K key, V value) {
+		if (isEnabled()) {
+			entries.put(key, new Entry<>(value, System.nanoTime() + ttl));
+		}
+	}
+
+	/**
+	 * <p>
+	 * Removes the value associated to the given key.
+	 * </p>
+	 * 
+	 * @param key The key.
+	 */
+	public synchronized void remove(K key) {
+		entries.remove(key);
+	}
+
+	/**
+	 * <p>
+	 * Removes the values whose keys match the given predicate.
+	 * </p>
+	 * 
+	 * @param filter Predicate to select the keys to remove.
+	 */
+	public synchronized void removeIf(Predicate<K> filter) {
+		entries.keySet().removeIf(filter);
+	}
+
+	/**
+	 * <p>
+	 * Removes all values.
+	 * </p>
+	 */
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of values.
+	 * </p>
+	 * 
+	 * @return The number of values, included the expired ones not yet removed.
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * <p>
+	 * Cached value.
+	 * </p>
+	 * 
+	 * @param <V>       Type of the value.
+	 * @param value     The value.
+	 * @param expiresAt Value of {@link System#nanoTime()} when the value expires.
+	 */
+	private record Entry<V>(V value, long expiresAt) {
+	}
+}
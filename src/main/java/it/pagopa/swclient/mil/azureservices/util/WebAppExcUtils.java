@@ -5,6 +5,11 @@
  */
 package it.pagopa.swclient.mil.azureservices.util;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
 import io.quarkus.logging.Log;
 import jakarta.ws.rs.WebApplicationException;
 
@@ -62,6 +67,48 @@ public class WebAppExcUtils {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Verifies if a failure is due to 416 returned from invoked resource.
+	 * </p>
+	 * 
+	 * @param failure Failure to verify.
+	 * @return {@code true} is the failure is due to 416 returned from invoked resource, {@code false}
+	 *         otherwise.
+	 */
+	public static boolean isRangeNotSatisfiable(Throwable failure) {
+		Log.debug("Failure inspection");
+		if (failure instanceof WebApplicationException webException) {
+			int status = webException.getResponse().getStatus();
+			Log.debugf("HTTP status received: %d", status);
+			return status == 416;
+		} else {
+			Log.debugf("Other failure received", failure);
+			return false;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Verifies if a failure is due to 412 returned from invoked resource.
+	 * </p>
+	 * 
+	 * @param failure Failure to verify.
+	 * @return {@code true} is the failure is due to 412 returned from invoked resource, {@code false}
+	 *         otherwise.
+	 */
+	public static boolean isPreconditionFailed(Throwable failure) {
+		Log.debug("Failure inspection");
+		if (failure instanceof WebApplicationException webException) {
+			int status = webException.getResponse().getStatus();
+			Log.debugf("HTTP status received: %d", status);
+			return status == 412;
+		} else {
+			Log.debugf("Other failure received", failure);
+			return false;
+		}
+	}
+
 	/**
 	 * <p>
 	 * Verifies if a {@link jakarta.ws.rs.WebApplicationException WebApplicationException} is due to 401
@@ -107,4 +154,40 @@ public class WebAppExcUtils {
 			return false;
 		}
 	}
+
+	/**
+	 * <p>
+	 * Returns the time to wait before retrying, as of {@code Retry-After} header (in seconds or as
+	 * HTTP-date) returned from invoked resource.
+	 * </p>
+	 * 
+	 * @param failure Failure to inspect.
+	 * @return The time to wait or {@code null} if the failure doesn't have a valid
+	 *         {@code Retry-After}.
+	 */
+	public static Duration getRetryAfter(Throwable failure) {
+		if (!(failure instanceof WebApplicationException webException) || webException.getResponse() == null) {
+			return null;
+		}
+
+		String retryAfter = webException.getResponse().getHeaderString("Retry-After");
+		if (retryAfter == null || retryAfter.isBlank()) {
+			return null;
+		}
+
+		retryAfter = retryAfter.trim();
+		try {
+			return Duration.ofSeconds(Math.max(Long.parseLong(retryAfter), 0));
+		} catch (NumberFormatException e) {
+			Log.trace("Retry-After isn't in seconds");
+		}
+
+		try {
+			Duration wait = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME));
+			return wait.isNegative() ? Duration.ZERO : wait;
+		} catch (DateTimeParseException e) {
+			Log.debugf("Invalid Retry-After: %s", retryAfter);
+			return null;
+		}
+	}
 }
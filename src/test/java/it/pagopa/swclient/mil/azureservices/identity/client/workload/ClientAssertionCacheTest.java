@@ -0,0 +1,196 @@
+/*
+ * ClientAssertionCacheTest.java
+ *
+ * 17 ott 2026
+ */
+package it.pagopa.swclient.mil.azureservices.identity.client.workload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+/**
+ * 
+ * @author Antonio Tarricone
+ */
+@QuarkusTest
+class ClientAssertionCacheTest {
+	/**
+	 * 
+	 */
+	@TempDir
+	Path tempDir;
+
+	/**
+	 * 
+	 * @param testInfo
+	 */
+	@BeforeEach
+	void init(TestInfo testInfo) {
+		String frame = "*".repeat(testInfo.getDisplayName().length() + 11);
+		System.out.println(frame);
+		System.out.printf("* %s: START *%n", testInfo.getDisplayName());
+		System.out.println(frame);
+	}
+
+	/**
+	 * 
+	 */
+	@AfterEach
+	void clear() {
+		ClientAssertionCache.clear();
+	}
+
+	/**
+	 * 
+	 * @param exp
+	 * @param subject
+	 * @return
+	 */
+	private String jwt(long exp, String subject) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		return encoder.encodeToString("{\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8))
+			+ "."
+			+ encoder.encodeToString(String.format("{\"sub\":\"%s\",\"exp\":%d}", subject, exp).getBytes(StandardCharsets.UTF_8))
+			+ ".c2lnbmF0dXJl";
+	}
+
+	/**
+	 * 
+	 * @throws IOException
+	 */
+	@Test
+	void given_validJwtInTokenFile_when_invokeGet_then_returnCachedValue() throws IOException {
+		/*
+		 * Setup
+		 */
+		long exp = Instant.now().getEpochSecond() + 3600;
+		String jwt1 = jwt(exp, "first");
+		Path tokenFile = Files.writeString(tempDir.resolve("token"), jwt1);
+		String path = tokenFile.toString();
+
+		/*
+		 * Test
+		 */
+		assertEquals(jwt1, ClientAssertionCache.get(path));
+
+		Files.writeString(tokenFile, jwt(exp, "second"));
+
+		assertEquals(jwt1, ClientAssertionCache.get(path));
+	}
+
+	/**
+	 * 
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	@Test
+	void given_jwtGoingToExpireInTokenFile_when_invokeGet_then_reloadItInBackground() throws IOException, InterruptedException {
+		/*
+		 * Setup
+		 */
+		long now = Instant.now().getEpochSecond();
+		String jwt1 = jwt(now + 60, "first");
+		String jwt2 = jwt(now + 3600, "second");
+		Path tokenFile = Files.writeString(tempDir.resolve("token"), jwt1);
+		String path = tokenFile.toString();
+
+		/*
+		 * Test
+		 */
+		assertEquals(jwt1, ClientAssertionCache.get(path));
+
+		Files.writeString(tokenFile, jwt2);
+
+		assertEquals(jwt1, ClientAssertionCache.get(path));
+
+		String actual = jwt1;
+		for (int i = 0; i < 50 && !jwt2.equals(actual); i++) {
+			Thread.sleep(100);
+			actual = ClientAssertionCache.get(path);
+		}
+
+		assertEquals(jwt2, actual);
+	}
+
+	/**
+	 * 
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	@Test
+	void given_notRotatedTokenFile_when_invokeGet_then_reloadItOncePerInterval() throws IOException, InterruptedException {
+		/*
+		 * Setup
+		 */
+		long now = Instant.now().getEpochSecond();
+		String jwt = jwt(now + 60, "first");
+		String path = Files.writeString(tempDir.resolve("token"), jwt).toString();
+		long reads = ClientAssertionCache.getReads();
+
+		/*
+		 * Test
+		 */
+		assertEquals(jwt, ClientAssertionCache.get(path));
+		assertEquals(jwt, ClientAssertionCache.get(path)); // Starts the reloading in background.
+
+		for (int i = 0; i < 50 && ClientAssertionCache.getReads() < reads + 2; i++) {
+			Thread.sleep(100);
+		}
+
+		for (int i = 0; i < 100; i++) {
+			assertEquals(jwt, ClientAssertionCache.get(path));
+		}
+		Thread.sleep(200);
+
+		assertEquals(reads + 2, ClientAssertionCache.getReads());
+	}
+
+	/**
+	 * 
+	 * @throws IOException
+	 */
+	@Test
+	void given_expiredJwtInTokenFile_when_invokeGet_then_reloadIt() throws IOException {
+		/*
+		 * Setup
+		 */
+		long now = Instant.now().getEpochSecond();
+		String jwt1 = jwt(now - 60, "first");
+		String jwt2 = jwt(now + 3600, "second");
+		Path tokenFile = Files.writeString(tempDir.resolve("token"), jwt1);
+		String path = tokenFile.toString();
+
+		/*
+		 * Test
+		 */
+		assertEquals(jwt1, ClientAssertionCache.get(path));
+
+		Files.writeString(tokenFile, jwt2);
+
+		assertEquals(jwt2, ClientAssertionCache.get(path));
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_notJwt_when_invokeGetExp_then_return0() {
+		assertEquals(0, ClientAssertionCache.getExp("This is a test!"));
+		assertEquals(0, ClientAssertionCache.getExp("a.%%%.c"));
+		assertEquals(0, ClientAssertionCache.getExp("a.bm90IGpzb24.c"));
+	}
+}
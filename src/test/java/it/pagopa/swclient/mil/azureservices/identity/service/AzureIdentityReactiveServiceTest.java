@@ -5,6 +5,7 @@
  */
 package it.pagopa.swclient.mil.azureservices.identity.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -13,8 +14,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -150,6 +154,9 @@ class AzureIdentityReactiveServiceTest {
 			.assertItem(accessToken);
 
 		verify(identityService, times(1)).getNewAccessTokenAndCacheIt(Scope.VAULT);
+		assertEquals(1, identityService.getCacheHits());
+		assertEquals(1, identityService.getCacheMisses());
+		assertEquals(1, identityService.getCacheRefreshes());
 	}
 
 	/**
@@ -208,6 +215,144 @@ class AzureIdentityReactiveServiceTest {
 			.assertItem(accessToken);
 
 		verify(identityService, times(2)).getNewAccessTokenAndCacheIt(Scope.VAULT);
+		assertEquals(0, identityService.getCacheHits());
+		assertEquals(2, identityService.getCacheMisses());
+		assertEquals(2, identityService.getCacheRefreshes());
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_emptyCache_when_getAccessTokenInvokedConcurrently_then_getNewOneOnlyOnce() {
+		/*
+		 * Setup
+		 */
+		Instant now = Instant.now();
+		AccessToken accessToken = new AccessToken()
+			.setExpiresOn(now.plus(5, ChronoUnit.MINUTES).getEpochSecond())
+			.setValue("access_token_string");
+
+		AzureSystemManagedIdentityClient identityClient = mock(AzureSystemManagedIdentityClient.class);
+		when(identityClient.getAccessToken(Scope.VAULT))
+			.thenReturn(Uni.createFrom().item(accessToken)
+				.onItem()
+				.delayIt()
+				.by(Duration.ofMillis(500)));
+
+		Instance<AzureSystemManagedIdentityClient> identityClientInstance = mock(Instance.class);
+		when(identityClientInstance.get())
+			.thenReturn(identityClient);
+
+		Instance<AzureIdentityClient> anyIdentityClient = mock(Instance.class);
+		when(anyIdentityClient.select(AzureSystemManagedIdentityClient.class))
+			.thenReturn(identityClientInstance);
+
+		/*
+		 * Test
+		 */
+		AzureIdentityReactiveService identityService = new AzureIdentityReactiveService(
+			Optional.empty(),
+			Optional.of("https://login.microsoftonline.com/"),
+			Optional.of("45ed57a0-ec26-41c9-8333-29daf37697d3"),
+			Optional.empty(),
+			Optional.empty(),
+			Optional.empty(),
+			Optional.empty(),
+			anyIdentityClient);
+
+		List<UniAssertSubscriber<AccessToken>> subscribers = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			subscribers.add(identityService.getAccessToken(Scope.VAULT)
+				.subscribe()
+				.withSubscriber(UniAssertSubscriber.create()));
+		}
+
+		subscribers.forEach(subscriber -> subscriber
+			.awaitItem()
+			.assertItem(accessToken));
+
+		verify(identityClient, times(1)).getAccessToken(Scope.VAULT);
+	}
+
+	/**
+	 * 
+	 * @param identityService
+	 * @param expected
+	 * @throws InterruptedException
+	 */
+	private void awaitBackgroundRefreshes(AzureIdentityReactiveService identityService, long expected) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (identityService.getBackgroundRefreshes() < expected && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(expected, identityService.getBackgroundRefreshes());
+	}
+
+	/**
+	 * 
+	 * @throws InterruptedException
+	 */
+	@Test
+	void given_refreshAheadEnabled_when_accessTokenIsGoingToExpire_then_renewItInBackground() throws InterruptedException {
+		/*
+		 * Setup
+		 */
+		Instant now = Instant.now();
+		AccessToken accessToken = new AccessToken()
+			.setExpiresOn(now.plus(3, ChronoUnit.SECONDS).getEpochSecond())
+			.setValue("access_token_string");
+		AccessToken newAccessToken = new AccessToken()
+			.setExpiresOn(now.plus(1, ChronoUnit.HOURS).getEpochSecond())
+			.setValue("new_access_token_string");
+
+		AzureSystemManagedIdentityClient identityClient = mock(AzureSystemManagedIdentityClient.class);
+		when(identityClient.getAccessToken(Scope.VAULT))
+			.thenReturn(
+				Uni.createFrom().item(accessToken),
+				Uni.createFrom().item(newAccessToken));
+
+		Instance<AzureSystemManagedIdentityClient> identityClientInstance = mock(Instance.class);
+		when(identityClientInstance.get())
+			.thenReturn(identityClient);
+
+		Instance<AzureIdentityClient> anyIdentityClient = mock(Instance.class);
+		when(anyIdentityClient.select(AzureSystemManagedIdentityClient.class))
+			.thenReturn(identityClientInstance);
+
+		/*
+		 * Test
+		 */
+		AzureIdentityReactiveService identityService = new AzureIdentityReactiveService(
+			Optional.empty(),
+			Optional.of("https://login.microsoftonline.com/"),
+			Optional.of("45ed57a0-ec26-41c9-8333-29daf37697d3"),
+			Optional.empty(),
+			Optional.empty(),
+			Optional.empty(),
+			Optional.empty(),
+			anyIdentityClient);
+		identityService.refreshAheadEnabled = true;
+		identityService.refreshAheadMargin = 2;
+		identityService.refreshAheadRetryDelay = 1;
+
+		identityService.getAccessToken(Scope.VAULT)
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(accessToken);
+
+		awaitBackgroundRefreshes(identityService, 1);
+
+		identityService.getAccessToken(Scope.VAULT)
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(newAccessToken);
+
+		verify(identityClient, times(2)).getAccessToken(Scope.VAULT);
+
+		identityService.clearAccessTokenCache();
 	}
 
 	/**
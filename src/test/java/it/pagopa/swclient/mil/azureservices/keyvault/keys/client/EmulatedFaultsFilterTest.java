@@ -0,0 +1,180 @@
+/*
+ * EmulatedFaultsFilterTest.java
+ *
+ * 17 ott 2026
+ */
+package it.pagopa.swclient.mil.azureservices.keyvault.keys.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.mockito.ArgumentCaptor;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * 
+ * @author Antonio Tarricone
+ */
+@QuarkusTest
+class EmulatedFaultsFilterTest {
+	/*
+	 * 
+	 */
+	private EmulatedFaultsFilter filter;
+
+	/*
+	 * 
+	 */
+	private ResteasyReactiveClientRequestContext requestContext;
+
+	/**
+	 * 
+	 * @param testInfo
+	 */
+	@BeforeEach
+	void init(TestInfo testInfo) {
+		String frame = "*".repeat(testInfo.getDisplayName().length() + 11);
+		System.out.println(frame);
+		System.out.printf("* %s: START *%n", testInfo.getDisplayName());
+		System.out.println(frame);
+
+		filter = new EmulatedFaultsFilter();
+		requestContext = mock(ResteasyReactiveClientRequestContext.class);
+	}
+
+	/**
+	 * 
+	 * @return
+	 */
+	private Response captureFault() {
+		ArgumentCaptor<Response> response = ArgumentCaptor.forClass(Response.class);
+		verify(requestContext).abortWith(response.capture());
+		return response.getValue();
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_noFaults_when_requestIsSent_then_letItGo() {
+		filter.filter(requestContext);
+
+		verify(requestContext, never()).abortWith(any());
+		verify(requestContext, never()).suspend();
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_throttling_when_requestIsSent_then_get429WithRetryAfter() {
+		/*
+		 * Setup
+		 */
+		filter.throttlingRate = 1;
+		filter.retryAfter = 3;
+
+		/*
+		 * Test
+		 */
+		filter.filter(requestContext);
+
+		Response fault = captureFault();
+		assertEquals(429, fault.getStatus());
+		assertEquals("3", fault.getHeaderString("Retry-After"));
+		verify(requestContext, never()).suspend();
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_unauthorized_when_requestIsSent_then_get401() {
+		/*
+		 * Setup
+		 */
+		filter.unauthorizedRate = 1;
+
+		/*
+		 * Test
+		 */
+		filter.filter(requestContext);
+
+		assertEquals(401, captureFault().getStatus());
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_serverError_when_requestIsSent_then_get503() {
+		/*
+		 * Setup
+		 */
+		filter.serverErrorRate = 1;
+
+		/*
+		 * Test
+		 */
+		filter.filter(requestContext);
+
+		assertEquals(503, captureFault().getStatus());
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_quota_when_itIsExceeded_then_get429() {
+		/*
+		 * Setup
+		 */
+		filter.quotaPerSecond = 1;
+
+		/*
+		 * Test
+		 */
+		for (int i = 0; i < 10; i++) {
+			filter.filter(requestContext);
+		}
+
+		ArgumentCaptor<Response> responses = ArgumentCaptor.forClass(Response.class);
+		verify(requestContext, atLeastOnce()).abortWith(responses.capture());
+		assertEquals(429, responses.getValue().getStatus());
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_latency_when_requestIsSent_then_resumeItWhenElapsed() {
+		/*
+		 * Setup
+		 */
+		filter.minLatency = 100;
+		filter.tailMeanLatency = 10;
+
+		/*
+		 * Test
+		 */
+		long start = System.currentTimeMillis();
+		filter.filter(requestContext);
+
+		verify(requestContext).suspend();
+		verify(requestContext, timeout(5000)).resume();
+		assertTrue(System.currentTimeMillis() - start >= 100);
+		verify(requestContext, never()).abortWith(any());
+	}
+}
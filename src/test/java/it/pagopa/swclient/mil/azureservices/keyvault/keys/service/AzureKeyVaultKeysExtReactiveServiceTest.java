@@ -8,6 +8,7 @@ package it.pagopa.swclient.mil.azureservices.keyvault.keys.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -16,6 +17,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.junit.jupiter.api.AfterEach;
@@ -28,12 +30,16 @@ import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import it.pagopa.swclient.mil.azureservices.identity.bean.AccessToken;
+import it.pagopa.swclient.mil.azureservices.identity.bean.Scope;
+import it.pagopa.swclient.mil.azureservices.identity.service.AzureIdentityReactiveService;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.DeletedKeyBundle;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKey;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyOperation;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyType;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyAttributes;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyBundle;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyCreateParameters;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyItem;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyListResult;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.client.AzureKeyVaultKeysReactiveClient;
@@ -594,6 +600,303 @@ class AzureKeyVaultKeysExtReactiveServiceTest {
 				bundle__attr_wo_nbf__key_rsa_sign_verify);
 	}
 
+	/**
+	 * 
+	 */
+	@Test
+	void given_setOfKeysAndConcurrency_when_getKeysInvoked_then_getRelevantKeys() {
+		/*
+		 * Setup
+		 */
+		setup();
+
+		AzureKeyVaultKeysExtReactiveService concurrentExtService = new AzureKeyVaultKeysExtReactiveService(keysService, 0, 1000, 0);
+		concurrentExtService.concurrency = 4;
+
+		/*
+		 * Test
+		 */
+		Iterable<KeyBundle> actualBundles = concurrentExtService.getKeys(
+			"my_domain",
+			List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY),
+			List.of(JsonWebKeyType.RSA))
+			.subscribe()
+			.asIterable();
+
+		assertThat(actualBundles)
+			.containsExactlyInAnyOrder(
+				bundle__attr_ok__key_rsa_sign_verify,
+				bundle__attr_ok_longest_exp__key_rsa_sign_verify,
+				bundle__attr_wo_created__key_rsa_sign_verify,
+				bundle__attr_wo_nbf__key_rsa_sign_verify);
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_setOfKeysAndConcurrencyPreservingOrder_when_getKeysInvoked_then_getRelevantKeysInOrder() {
+		/*
+		 * Setup
+		 */
+		setup();
+
+		AzureKeyVaultKeysExtReactiveService concurrentExtService = new AzureKeyVaultKeysExtReactiveService(keysService, 0, 1000, 0);
+		concurrentExtService.concurrency = 3;
+		concurrentExtService.preserveOrder = true;
+
+		List<KeyBundle> expectedBundles = extService.getKeys(
+			"my_domain",
+			List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY),
+			List.of(JsonWebKeyType.RSA))
+			.collect()
+			.asList()
+			.await()
+			.indefinitely();
+
+		/*
+		 * Test
+		 */
+		Iterable<KeyBundle> actualBundles = concurrentExtService.getKeys(
+			"my_domain",
+			List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY),
+			List.of(JsonWebKeyType.RSA))
+			.subscribe()
+			.asIterable();
+
+		assertThat(actualBundles)
+			.containsExactlyElementsOf(expectedBundles);
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_cacheEnabled_when_getKeysInvokedTwice_then_crawlKeyVaultOnce() {
+		/*
+		 * Setup
+		 */
+		setup();
+
+		AzureKeyVaultKeysExtReactiveService cachingExtService = new AzureKeyVaultKeysExtReactiveService(keysService, 60000, 1000, 0);
+
+		/*
+		 * Test
+		 */
+		for (int i = 0; i < 2; i++) {
+			Iterable<KeyBundle> actualBundles = cachingExtService.getKeys(
+				"my_domain",
+				List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY),
+				List.of(JsonWebKeyType.RSA))
+				.subscribe()
+				.asIterable();
+
+			assertThat(actualBundles)
+				.containsExactlyInAnyOrder(
+					bundle__attr_ok__key_rsa_sign_verify,
+					bundle__attr_ok_longest_exp__key_rsa_sign_verify,
+					bundle__attr_wo_created__key_rsa_sign_verify,
+					bundle__attr_wo_nbf__key_rsa_sign_verify);
+		}
+
+		verify(keysService, times(1)).getKeys();
+		verify(keysService, times(1)).getKeyVersions("attr_ok_longest_exp__key_rsa_sign_verify");
+		verify(keysService, times(1)).getKey("attr_ok_longest_exp__key_rsa_sign_verify", "longest_exp");
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_cacheEnabled_when_keyIsCreatedOrDeleted_then_invalidateCache() {
+		/*
+		 * Setup
+		 */
+		setup();
+
+		KeyCreateParameters keyCreateParameters = new KeyCreateParameters()
+			.setKty(JsonWebKeyType.RSA);
+
+		when(keysService.createKey("attr_ok_longest_exp__key_rsa_sign_verify", keyCreateParameters))
+			.thenReturn(Uni.createFrom().item(bundle__attr_ok_longest_exp__key_rsa_sign_verify));
+
+		when(keysService.deleteKey("attr_ok_longest_exp__key_rsa_sign_verify"))
+			.thenReturn(Uni.createFrom().item(new DeletedKeyBundle()));
+
+		AzureKeyVaultKeysExtReactiveService cachingExtService = new AzureKeyVaultKeysExtReactiveService(keysService, 60000, 1000, 0);
+
+		/*
+		 * Test
+		 */
+		cachingExtService.getKeys(
+			"my_domain",
+			List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY),
+			List.of(JsonWebKeyType.RSA))
+			.collect()
+			.asList()
+			.await()
+			.indefinitely();
+
+		cachingExtService.createKey("attr_ok_longest_exp__key_rsa_sign_verify", keyCreateParameters)
+			.await()
+			.indefinitely();
+
+		cachingExtService.getKeys(
+			"my_domain",
+			List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY),
+			List.of(JsonWebKeyType.RSA))
+			.collect()
+			.asList()
+			.await()
+			.indefinitely();
+
+		cachingExtService.deleteKey("attr_ok_longest_exp__key_rsa_sign_verify")
+			.await()
+			.indefinitely();
+
+		cachingExtService.getKeys(
+			"my_domain",
+			List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY),
+			List.of(JsonWebKeyType.RSA))
+			.collect()
+			.asList()
+			.await()
+			.indefinitely();
+
+		verify(keysService, times(3)).getKeys();
+		verify(keysService, times(3)).getKeyVersions("attr_ok_longest_exp__key_rsa_sign_verify");
+		verify(keysService, times(3)).getKey("attr_ok_longest_exp__key_rsa_sign_verify", "longest_exp");
+		verify(keysService, times(1)).getKeyVersions("attr_wo_nbf__key_rsa_sign_verify");
+		verify(keysService, times(1)).getKey("attr_wo_nbf__key_rsa_sign_verify", "dont_care");
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_cacheEnabled_when_keyIsDeletedWhileListing_then_dontCacheStaleList() {
+		/*
+		 * Setup
+		 */
+		AzureKeyVaultKeysExtReactiveService cachingExtService = new AzureKeyVaultKeysExtReactiveService(keysService, 60000, 1000, 0);
+
+		when(keysService.deleteKey("my_key"))
+			.thenReturn(Uni.createFrom().item(new DeletedKeyBundle()));
+
+		Uni<KeyListResult> listingWhileDeleting = cachingExtService.deleteKey("my_key")
+			.replaceWith(new KeyListResult()
+				.setValue(List.of()));
+
+		when(keysService.getKeys())
+			.thenReturn(listingWhileDeleting);
+
+		/*
+		 * Test
+		 */
+		for (int i = 0; i < 2; i++) {
+			cachingExtService.getKeys(
+				"my_domain",
+				List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY),
+				List.of(JsonWebKeyType.RSA))
+				.collect()
+				.asList()
+				.await()
+				.indefinitely();
+		}
+
+		verify(keysService, times(2)).getKeys();
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_keyTypeCacheEnabled_when_getKeysInvokedTwice_then_skipKeysWithWrongType() {
+		/*
+		 * Setup
+		 */
+		setup();
+
+		AzureKeyVaultKeysExtReactiveService ktyCachingExtService = new AzureKeyVaultKeysExtReactiveService(keysService, 0, 1000, 60000);
+
+		/*
+		 * Test
+		 */
+		for (int i = 0; i < 2; i++) {
+			Iterable<KeyBundle> actualBundles = ktyCachingExtService.getKeys(
+				"my_domain",
+				List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY),
+				List.of(JsonWebKeyType.RSA))
+				.subscribe()
+				.asIterable();
+
+			assertThat(actualBundles)
+				.containsExactlyInAnyOrder(
+					bundle__attr_ok__key_rsa_sign_verify,
+					bundle__attr_ok_longest_exp__key_rsa_sign_verify,
+					bundle__attr_wo_created__key_rsa_sign_verify,
+					bundle__attr_wo_nbf__key_rsa_sign_verify);
+		}
+
+		verify(keysService, times(1)).getKey("attr_ok__key_no_rsa_sign_verify", "dont_care");
+		verify(keysService, times(1)).getKey("attr_ok_longest_exp__key_no_rsa_sign_verify", "dont_care");
+		verify(keysService, times(2)).getKey("attr_ok_longest_exp__key_rsa_sign_verify", "longest_exp");
+		assertThat(ktyCachingExtService.getSkippedGetKeyCalls())
+			.isEqualTo(2);
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_versionWithOtherDomain_when_getKeysInvoked_then_dontFetchIt() {
+		/*
+		 * Setup
+		 */
+		setup();
+
+		AzureKeyVaultKeysExtReactiveService localExtService = new AzureKeyVaultKeysExtReactiveService(keysService, 0, 1000, 0);
+
+		localExtService.getKeys(
+			"my_domain",
+			List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY),
+			List.of(JsonWebKeyType.RSA))
+			.collect()
+			.asList()
+			.await()
+			.indefinitely();
+		long prefiltered = localExtService.getPrefilteredGetKeyCalls();
+
+		when(keysService.getKeyVersions("attr_wo_nbf__key_rsa_sign_verify"))
+			.thenReturn(Uni.createFrom().item(new KeyListResult()
+				.setValue(List.of(new KeyItem()
+					.setAttributes(bundle__attr_wo_nbf__key_rsa_sign_verify.getAttributes())
+					.setKid("https://myvault.vault.azure.net/keys/attr_wo_nbf__key_rsa_sign_verify/dont_care")
+					.setTags(Map.of(KeyUtils.DOMAIN_KEY, "other_domain"))))));
+
+		/*
+		 * Test
+		 */
+		Iterable<KeyBundle> actualBundles = localExtService.getKeys(
+			"my_domain",
+			List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY),
+			List.of(JsonWebKeyType.RSA))
+			.subscribe()
+			.asIterable();
+
+		assertThat(actualBundles)
+			.containsExactlyInAnyOrder(
+				bundle__attr_ok__key_rsa_sign_verify,
+				bundle__attr_ok_longest_exp__key_rsa_sign_verify,
+				bundle__attr_wo_created__key_rsa_sign_verify);
+
+		verify(keysService, times(1)).getKey("attr_wo_nbf__key_rsa_sign_verify", "dont_care");
+		assertThat(localExtService.getPrefilteredGetKeyCalls())
+			.isEqualTo(2 * prefiltered + 1);
+		assertThat(localExtService.getSkippedGetKeyCalls())
+			.isZero();
+	}
+
 	/**
 	 * 
 	 */
@@ -615,6 +918,38 @@ class AzureKeyVaultKeysExtReactiveServiceTest {
 			.withSubscriber(UniAssertSubscriber.create())
 			.awaitItem()
 			.assertItem(Optional.of(bundle__attr_ok_longest_exp__key_rsa_sign_verify));
+
+		verify(keysService, never()).getKey("attr_wo_nbf__key_rsa_sign_verify", "dont_care");
+		verify(keysService, never()).getKey("attr_wo_created__key_rsa_sign_verify", "dont_care");
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_setOfKeysAndSkipShorterDisabled_when_getKeyWithLongestExpInvoked_then_getRelevantKey() {
+		/*
+		 * Setup
+		 */
+		setup();
+
+		AzureKeyVaultKeysExtReactiveService notSkippingExtService = new AzureKeyVaultKeysExtReactiveService(keysService, 0, 1000, 0);
+		notSkippingExtService.skipShorterExp = false;
+
+		/*
+		 * Test
+		 */
+		notSkippingExtService.getKeyWithLongestExp(
+			"my_domain",
+			List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY),
+			List.of(JsonWebKeyType.RSA))
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(Optional.of(bundle__attr_ok_longest_exp__key_rsa_sign_verify));
+
+		verify(keysService).getKey("attr_wo_nbf__key_rsa_sign_verify", "dont_care");
+		verify(keysService).getKey("attr_wo_created__key_rsa_sign_verify", "dont_care");
 	}
 
 	/**
@@ -795,4 +1130,137 @@ class AzureKeyVaultKeysExtReactiveServiceTest {
 		verify(keysService, never()).deleteKey("ok_2");
 		verify(keysService, never()).deleteKey("wo_exp");
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_failingDeletions_when_deleteExpiredKeysInvoked_then_deleteTheOthersAndReportProgress() {
+		/*
+		 * Setup
+		 */
+		Instant now = Instant.now();
+
+		KeyAttributes attr_exp = new KeyAttributes()
+			.setCreated(now.minus(5, ChronoUnit.MINUTES).getEpochSecond())
+			.setEnabled(true)
+			.setExp(now.minus(1, ChronoUnit.MINUTES).getEpochSecond())
+			.setNbf(now.minus(3, ChronoUnit.MINUTES).getEpochSecond());
+
+		KeyListResult keyList = new KeyListResult()
+			.setValue(List.of(
+				new KeyItem()
+					.setAttributes(attr_exp)
+					.setKid("https://myvault.vault.azure.net/keys/exp_ok")
+					.setTags(Map.of(KeyUtils.DOMAIN_KEY, "my_domain")),
+				new KeyItem()
+					.setAttributes(attr_exp)
+					.setKid("https://myvault.vault.azure.net/keys/exp_throttled")
+					.setTags(Map.of(KeyUtils.DOMAIN_KEY, "my_domain")),
+				new KeyItem()
+					.setAttributes(attr_exp)
+					.setKid("https://myvault.vault.azure.net/keys/exp_failed")
+					.setTags(Map.of(KeyUtils.DOMAIN_KEY, "my_domain"))));
+
+		when(keysService.getKeys())
+			.thenReturn(Uni.createFrom().item(keyList));
+
+		DeletedKeyBundle bundle_exp_ok = new DeletedKeyBundle()
+			.setAttributes(attr_exp);
+
+		when(keysService.deleteKey("exp_ok"))
+			.thenReturn(Uni.createFrom().item(bundle_exp_ok));
+
+		when(keysService.deleteKey("exp_throttled"))
+			.thenReturn(Uni.createFrom().failure(new WebApplicationException(429)));
+
+		when(keysService.deleteKey("exp_failed"))
+			.thenReturn(Uni.createFrom().failure(new WebApplicationException(500)));
+
+		AzureKeyVaultKeysExtReactiveService deletingExtService = new AzureKeyVaultKeysExtReactiveService(keysService, 0, 1000, 0);
+		deletingExtService.deleteConcurrency = 3;
+
+		List<AzureKeyVaultKeysExtReactiveService.DeletionProgress> progresses = new CopyOnWriteArrayList<>();
+
+		/*
+		 * Test
+		 */
+		Iterable<DeletedKeyBundle> actualBundles = deletingExtService.deleteExpiredKeys("my_domain", progresses::add)
+			.subscribe()
+			.asIterable();
+
+		assertThat(actualBundles)
+			.containsExactly(bundle_exp_ok);
+
+		assertThat(progresses)
+			.hasSize(3)
+			.last()
+			.satisfies(progress -> {
+				assertThat(progress.deleted()).isEqualTo(1);
+				assertThat(progress.failed()).isEqualTo(1);
+				assertThat(progress.throttled()).isEqualTo(1);
+			});
+
+		assertThat(deletingExtService.getDeletedKeys()).isEqualTo(1);
+		assertThat(deletingExtService.getFailedDeletions()).isEqualTo(1);
+		assertThat(deletingExtService.getThrottledDeletions()).isEqualTo(1);
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_deletionThrottledUntilRetriesExhausted_when_deleteExpiredKeysInvoked_then_countItAsThrottled() {
+		/*
+		 * Setup
+		 */
+		Instant now = Instant.now();
+
+		AzureIdentityReactiveService identityService = Mockito.mock(AzureIdentityReactiveService.class);
+		AccessToken accessToken = new AccessToken()
+			.setExpiresOn(now.plus(5, ChronoUnit.MINUTES).getEpochSecond())
+			.setValue("access_token_string");
+		when(identityService.getAccessToken(Scope.VAULT))
+			.thenReturn(Uni.createFrom().item(accessToken));
+
+		AzureKeyVaultKeysReactiveServiceImpl implService = new AzureKeyVaultKeysReactiveServiceImpl(identityService, 0, 1000, 0, 10000);
+		implService.keysClient = keysClient;
+		implService.initialBackoff = 0;
+		implService.numberOfAttempts = 2;
+		implService.retryBudgetMax = 0;
+		implService.init();
+
+		KeyAttributes attr_exp = new KeyAttributes()
+			.setCreated(now.minus(5, ChronoUnit.MINUTES).getEpochSecond())
+			.setEnabled(true)
+			.setExp(now.minus(1, ChronoUnit.MINUTES).getEpochSecond())
+			.setNbf(now.minus(3, ChronoUnit.MINUTES).getEpochSecond());
+
+		KeyListResult keyList = new KeyListResult()
+			.setValue(List.of(
+				new KeyItem()
+					.setAttributes(attr_exp)
+					.setKid("https://myvault.vault.azure.net/keys/exp_throttled")
+					.setTags(Map.of(KeyUtils.DOMAIN_KEY, "my_domain"))));
+
+		when(keysClient.getKeys("access_token_string"))
+			.thenReturn(Uni.createFrom().item(keyList));
+
+		when(keysClient.deleteKey("access_token_string", "exp_throttled"))
+			.thenReturn(Uni.createFrom().failure(new WebApplicationException(429)));
+
+		AzureKeyVaultKeysExtReactiveService deletingExtService = new AzureKeyVaultKeysExtReactiveService(implService, 0, 1000, 0);
+
+		/*
+		 * Test
+		 */
+		Iterable<DeletedKeyBundle> actualBundles = deletingExtService.deleteExpiredKeys("my_domain")
+			.subscribe()
+			.asIterable();
+
+		assertThat(actualBundles).isEmpty();
+		assertThat(deletingExtService.getThrottledDeletions()).isEqualTo(1);
+		assertThat(deletingExtService.getFailedDeletions()).isZero();
+		verify(keysClient, times(3)).deleteKey("access_token_string", "exp_throttled");
+	}
+}
@@ -13,10 +13,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mockStatic;
 
 import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.KeyFactory;
 import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
@@ -28,8 +31,11 @@ import java.security.spec.RSAKeyGenParameterSpec;
 import java.security.spec.RSAPrivateKeySpec;
 import java.security.spec.RSAPublicKeySpec;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
@@ -42,12 +48,14 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.MockedStatic;
 
 import io.quarkus.test.junit.QuarkusTest;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.DeletedKeyBundle;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKey;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyCurveName;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyEncryptionAlgorithm;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyOperation;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeySignatureAlgorithm;
@@ -63,6 +71,8 @@ import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeySignParameters
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyVerifyParameters;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyVerifyResult;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.util.KeyUtils;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.util.PublicKeyCrypto;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.NotFoundException;
 
 /**
@@ -88,6 +98,14 @@ class AzureKeyVaultKeysReactiveServiceDevTest {
 		0, 1, 2, 3, 4, 5, 6, 7
 	};
 
+	/*
+	 * SHA-256 of VALUE_TO_SIGN.
+	 */
+	private static final byte[] DIGEST_TO_SIGN = new byte[] {
+		-118, -123, 31, -8, 46, -25, 4, -118, -48, -98, -61, -124, 127, 29, -33, 68,
+		-108, 65, 4, -46, -53, -47, 126, -12, -29, -37, 34, -58, 120, 90, 13, 69
+	};
+
 	/*
 	 * 
 	 */
@@ -267,7 +285,7 @@ class AzureKeyVaultKeysReactiveServiceDevTest {
 			.setTags(Map.of(KeyUtils.DOMAIN_KEY, DOMAIN))
 			.setKeyOps(List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY))
 			.setKeySize(SIZE)
-			.setKty(JsonWebKeyType.EC);
+			.setKty(JsonWebKeyType.RSA_HSM);
 
 		service.createKey(NAME, params)
 			.subscribe()
@@ -276,6 +294,112 @@ class AzureKeyVaultKeysReactiveServiceDevTest {
 			.assertFailedWith(UnsupportedOperationException.class);
 	}
 
+	/**
+	 * Test method for
+	 * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveServiceDev#createKey(java.lang.String, it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyCreateParameters)}.
+	 * 
+	 * @throws InterruptedException
+	 */
+	@Test
+	void given_keyPool_when_createKeyIsInvoked_then_usePreGeneratedKeyPairs() throws InterruptedException {
+		/*
+		 * Setup
+		 */
+		AzureKeyVaultKeysReactiveServiceDev pooledService = new AzureKeyVaultKeysReactiveServiceDev();
+		pooledService.keyPoolSize = 2;
+
+		KeyCreateParameters params = new KeyCreateParameters()
+			.setKeyOps(List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY))
+			.setKeySize(SIZE)
+			.setKty(JsonWebKeyType.RSA);
+
+		/*
+		 * Test
+		 */
+		pooledService.createKey(NAME, params)
+			.await()
+			.indefinitely();
+
+		for (int i = 0; i < 100 && pooledService.getPooledKeyPairs() < 2; i++) {
+			Thread.sleep(100);
+		}
+		assertEquals(2, pooledService.getPooledKeyPairs());
+
+		KeyBundle keyBundle = pooledService.createKey(NAME, params)
+			.await()
+			.indefinitely();
+
+		assertEquals(2, pooledService.getKeyVersions(NAME)
+			.await()
+			.indefinitely()
+			.getValue()
+			.size());
+		assertTrue(pooledService.getPooledKeyPairs() <= 2);
+		assertEquals(JsonWebKeyType.RSA, keyBundle.getKey().getKty());
+	}
+
+	/**
+	 * Test method for
+	 * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveServiceDev#load()}.
+	 * 
+	 * @param tempDir
+	 * @throws InterruptedException
+	 */
+	@Test
+	void given_persistenceFile_when_serviceIsRestarted_then_getStoredKeys(@TempDir Path tempDir) throws InterruptedException {
+		/*
+		 * Setup
+		 */
+		Path file = tempDir.resolve("keys.json");
+
+		AzureKeyVaultKeysReactiveServiceDev persistentService = new AzureKeyVaultKeysReactiveServiceDev();
+		persistentService.persistenceFile = Optional.of(file.toString());
+		persistentService.load();
+
+		KeyCreateParameters params = new KeyCreateParameters()
+			.setKeyOps(List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY))
+			.setKeySize(SIZE)
+			.setKty(JsonWebKeyType.RSA);
+
+		KeyBundle keyBundle = persistentService.createKey(NAME, params)
+			.await()
+			.indefinitely();
+
+		String version = KeyUtils.getKeyNameVersion(bundle2item(keyBundle))[1];
+
+		KeyOperationResult signResult = persistentService.sign(NAME, version, new KeySignParameters()
+			.setAlg(JsonWebKeySignatureAlgorithm.RS256)
+			.setValue(DIGEST_TO_SIGN))
+			.await()
+			.indefinitely();
+
+		for (int i = 0; i < 100 && !Files.exists(file); i++) {
+			Thread.sleep(100);
+		}
+
+		/*
+		 * Test
+		 */
+		AzureKeyVaultKeysReactiveServiceDev restartedService = new AzureKeyVaultKeysReactiveServiceDev();
+		restartedService.persistenceFile = Optional.of(file.toString());
+		restartedService.load();
+
+		KeyBundle actual = restartedService.getKey(NAME, version)
+			.await()
+			.indefinitely();
+
+		assertEquals(keyBundle.getKey().getKid(), actual.getKey().getKid());
+
+		KeyVerifyResult verifyResult = restartedService.verify(NAME, version, new KeyVerifyParameters()
+			.setAlg(JsonWebKeySignatureAlgorithm.RS256)
+			.setDigest(DIGEST_TO_SIGN)
+			.setValue(signResult.getValue()))
+			.await()
+			.indefinitely();
+
+		assertTrue(verifyResult.getValue());
+	}
+
 	/**
 	 * Test method for
 	 * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveServiceDev#getKeys()}.
@@ -391,7 +515,54 @@ class AzureKeyVaultKeysReactiveServiceDevTest {
 			.subscribe()
 			.withSubscriber(UniAssertSubscriber.create())
 			.awaitFailure()
-			.assertFailedWith(UnsupportedOperationException.class);
+			.assertFailedWith(BadRequestException.class);
+	}
+
+	/**
+	 * Test method for
+	 * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveServiceDev#getKeys(java.lang.String)}.
+	 */
+	@Test
+	void given_moreKeysThanMaxResults_when_getKeysIsInvoked_then_getPages() {
+		/*
+		 * Setup
+		 */
+		service.maxResults = 2;
+		List<String> expected = IntStream.range(0, 5)
+			.mapToObj(i -> createKey(List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY)).kid)
+			.sorted()
+			.toList();
+
+		/*
+		 * Test
+		 */
+		List<String> actual = new ArrayList<>();
+		KeyListResult page = service.getKeys()
+			.await()
+			.indefinitely();
+		actual.addAll(page.getValue().stream().map(KeyItem::getKid).toList());
+		while (page.getNextLink() != null) {
+			assertEquals(2, page.getValue().size());
+			String skiptoken = KeyUtils.getQueryParameters(page.getNextLink()).get("$skiptoken");
+			page = service.getKeys(skiptoken)
+				.await()
+				.indefinitely();
+			actual.addAll(page.getValue().stream().map(KeyItem::getKid).toList());
+		}
+
+		assertEquals(expected, actual);
+
+		page = service.getKeyVersions(NAME)
+			.await()
+			.indefinitely();
+		String skiptoken = KeyUtils.getQueryParameters(page.getNextLink()).get("$skiptoken");
+		assertEquals(expected.subList(2, 4), service.getKeyVersions(NAME, skiptoken)
+			.await()
+			.indefinitely()
+			.getValue()
+			.stream()
+			.map(KeyItem::getKid)
+			.toList());
 	}
 
 	/**
@@ -768,6 +939,35 @@ class AzureKeyVaultKeysReactiveServiceDevTest {
 		assertThat(actual).containsExactlyInAnyOrder(keyItem1, keyItem2);
 	}
 
+	/**
+	 * Test method for
+	 * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveServiceDev#getKeyVersions(java.lang.String)}.
+	 */
+	@Test
+	void given_versionsCreatedConcurrently_when_getKeyVersionsIsInvoked_then_getAllVersions() {
+		/*
+		 * Setup
+		 */
+		List<KeyItem> expected = IntStream.range(0, 8)
+			.parallel()
+			.mapToObj(i -> createKey(List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY)))
+			.map(keyData -> service.getKey(NAME, keyData.version)
+				.map(this::bundle2item)
+				.await()
+				.indefinitely())
+			.toList();
+
+		/*
+		 * Test
+		 */
+		List<KeyItem> actual = service.getKeyVersions(NAME)
+			.await()
+			.indefinitely()
+			.getValue();
+
+		assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+	}
+
 	/**
 	 * Test method for
 	 * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveServiceDev#getKeyVersions(java.lang.String)}.
@@ -833,11 +1033,13 @@ class AzureKeyVaultKeysReactiveServiceDevTest {
 	 */
 	@Test
 	void given_skipToken_when_getKeyVersionsIsInvoked_then_getFailure() {
+		createKey(List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY));
+
 		service.getKeyVersions(NAME, SKIP_TOKEN)
 			.subscribe()
 			.withSubscriber(UniAssertSubscriber.create())
 			.awaitFailure()
-			.assertFailedWith(UnsupportedOperationException.class);
+			.assertFailedWith(BadRequestException.class);
 	}
 
 	/**
@@ -875,7 +1077,7 @@ class AzureKeyVaultKeysReactiveServiceDevTest {
 		 */
 		KeySignParameters signParams = new KeySignParameters()
 			.setAlg(JsonWebKeySignatureAlgorithm.RS256)
-			.setValue(VALUE_TO_SIGN);
+			.setValue(DIGEST_TO_SIGN);
 
 		KeyOperationResult signResult = service.sign(NAME, keyData.version, signParams)
 			.await()
@@ -885,6 +1087,35 @@ class AzureKeyVaultKeysReactiveServiceDevTest {
 		assertArrayEquals(expected, signResult.getValue());
 	}
 
+	/**
+	 * Test method for
+	 * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveServiceDev#sign(java.lang.String, java.lang.String, it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeySignParameters)}.
+	 */
+	@Test
+	void given_alreadyUsedKey_when_signIsInvoked_then_reuseJcaKey() {
+		KeyData keyData = createKey(List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY));
+
+		KeySignParameters signParams = new KeySignParameters()
+			.setAlg(JsonWebKeySignatureAlgorithm.RS256)
+			.setValue(DIGEST_TO_SIGN);
+
+		byte[] expected = service.sign(NAME, keyData.version, signParams)
+			.await()
+			.indefinitely()
+			.getValue();
+
+		try (MockedStatic<KeyFactory> keyFactory = mockStatic(KeyFactory.class)) {
+			keyFactory.when(() -> KeyFactory.getInstance("RSA"))
+				.thenThrow(NoSuchAlgorithmException.class);
+
+			KeyOperationResult signResult = service.sign(NAME, keyData.version, signParams)
+				.await()
+				.indefinitely();
+
+			assertArrayEquals(expected, signResult.getValue());
+		}
+	}
+
 	/**
 	 * Test method for
 	 * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveServiceDev#sign(java.lang.String, java.lang.String, it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeySignParameters)}.
@@ -898,7 +1129,7 @@ class AzureKeyVaultKeysReactiveServiceDevTest {
 		 */
 		KeySignParameters signParams = new KeySignParameters()
 			.setAlg(JsonWebKeySignatureAlgorithm.RS256)
-			.setValue(VALUE_TO_SIGN);
+			.setValue(DIGEST_TO_SIGN);
 
 		service.sign(NAME, keyData.version, signParams)
 			.subscribe()
@@ -979,7 +1210,7 @@ class AzureKeyVaultKeysReactiveServiceDevTest {
 		KeyVerifyParameters verifyParams = new KeyVerifyParameters()
 			.setAlg(JsonWebKeySignatureAlgorithm.RS256)
 			.setValue(signature)
-			.setDigest(VALUE_TO_SIGN);
+			.setDigest(DIGEST_TO_SIGN);
 
 		KeyVerifyResult verifyResult = service.verify(NAME, keyData.version, verifyParams)
 			.await()
@@ -1002,7 +1233,7 @@ class AzureKeyVaultKeysReactiveServiceDevTest {
 		KeyVerifyParameters verifyParams = new KeyVerifyParameters()
 			.setAlg(JsonWebKeySignatureAlgorithm.RS256)
 			.setValue(new byte[0])
-			.setDigest(VALUE_TO_SIGN);
+			.setDigest(DIGEST_TO_SIGN);
 
 		KeyVerifyResult verifyResult = service.verify(NAME, keyData.version, verifyParams)
 			.await()
@@ -1068,6 +1299,226 @@ class AzureKeyVaultKeysReactiveServiceDevTest {
 		}
 	}
 
+	/**
+	 * Test method for
+	 * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveServiceDev#sign(java.lang.String, java.lang.String, it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeySignParameters)}.
+	 * 
+	 * @throws NoSuchAlgorithmException
+	 */
+	@Test
+	void given_ecKey_when_signAndVerifyAreInvoked_then_getVerifiedSignature() throws NoSuchAlgorithmException {
+		/*
+		 * Setup
+		 */
+		KeyCreateParameters params = new KeyCreateParameters()
+			.setKeyOps(List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY))
+			.setCrv(JsonWebKeyCurveName.P256)
+			.setKty(JsonWebKeyType.EC);
+
+		KeyBundle keyBundle = service.createKey(NAME, params)
+			.await()
+			.indefinitely();
+
+		String version = KeyUtils.getKeyNameVersion(bundle2item(keyBundle))[1];
+		byte[] digest = MessageDigest.getInstance("SHA-256").digest(VALUE_TO_SIGN);
+
+		/*
+		 * Test
+		 */
+		KeyOperationResult signResult = service.sign(NAME, version, new KeySignParameters()
+			.setAlg(JsonWebKeySignatureAlgorithm.ES256)
+			.setValue(digest))
+			.await()
+			.indefinitely();
+
+		assertEquals(64, signResult.getValue().length);
+
+		KeyVerifyResult verifyResult = service.verify(NAME, version, new KeyVerifyParameters()
+			.setAlg(JsonWebKeySignatureAlgorithm.ES256)
+			.setDigest(digest)
+			.setValue(signResult.getValue()))
+			.await()
+			.indefinitely();
+
+		assertTrue(verifyResult.getValue());
+
+		service.sign(NAME, version, new KeySignParameters()
+			.setAlg(JsonWebKeySignatureAlgorithm.ES384)
+			.setValue(digest))
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitFailure()
+			.assertFailedWith(RuntimeException.class);
+	}
+
+	/**
+	 * Test method for
+	 * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveServiceDev#createKey(java.lang.String, it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyCreateParameters)}.
+	 */
+	@Test
+	void given_p521Key_when_createKeyIsInvoked_then_getCoordinatesWithCurveLength() {
+		/*
+		 * Setup
+		 */
+		KeyCreateParameters params = new KeyCreateParameters()
+			.setKeyOps(List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY))
+			.setCrv(JsonWebKeyCurveName.P521)
+			.setKty(JsonWebKeyType.EC);
+
+		/*
+		 * Test
+		 */
+		for (int i = 0; i < 10; i++) {
+			JsonWebKey key = service.createKey(NAME, params)
+				.await()
+				.indefinitely()
+				.getKey();
+
+			assertEquals(66, key.getX().length);
+			assertEquals(66, key.getY().length);
+			assertEquals(66, key.getD().length);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveServiceDev#sign(java.lang.String, java.lang.String, it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeySignParameters)}.
+	 * 
+	 * @throws NoSuchAlgorithmException
+	 */
+	@Test
+	void given_rsaKey_when_signIsInvokedWithDigest_then_getSignatureVerifiableLocally() throws NoSuchAlgorithmException {
+		/*
+		 * Setup
+		 */
+		KeyData keyData = createKey(List.of(JsonWebKeyOperation.SIGN, JsonWebKeyOperation.VERIFY));
+		byte[] digest = MessageDigest.getInstance("SHA-512").digest(VALUE_TO_SIGN);
+
+		/*
+		 * Test
+		 */
+		KeyOperationResult signResult = service.sign(NAME, keyData.version, new KeySignParameters()
+			.setAlg(JsonWebKeySignatureAlgorithm.RS512)
+			.setValue(digest))
+			.await()
+			.indefinitely();
+
+		JsonWebKey key = service.getKey(NAME, keyData.version)
+			.await()
+			.indefinitely()
+			.getKey();
+
+		assertEquals(Boolean.TRUE, PublicKeyCrypto.verify(PublicKeyCrypto.toPublicKey(key), JsonWebKeySignatureAlgorithm.RS512, digest, signResult.getValue()));
+
+		service.sign(NAME, keyData.version, new KeySignParameters()
+			.setAlg(JsonWebKeySignatureAlgorithm.RS256)
+			.setValue(digest))
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitFailure()
+			.assertFailedWith(RuntimeException.class);
+	}
+
+	/**
+	 * Test method for
+	 * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveServiceDev#encrypt(java.lang.String, java.lang.String, it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyOperationParameters)}.
+	 */
+	@Test
+	void given_octKey_when_encryptAndDecryptAreInvokedWithGcm_then_getClearValue() {
+		/*
+		 * Setup
+		 */
+		KeyCreateParameters params = new KeyCreateParameters()
+			.setKeyOps(List.of(JsonWebKeyOperation.ENCRYPT, JsonWebKeyOperation.DECRYPT))
+			.setKeySize(256)
+			.setKty(JsonWebKeyType.OCT);
+
+		KeyBundle keyBundle = service.createKey(NAME, params)
+			.await()
+			.indefinitely();
+
+		String version = KeyUtils.getKeyNameVersion(bundle2item(keyBundle))[1];
+		byte[] aad = new byte[] {
+			9, 8, 7
+		};
+
+		/*
+		 * Test
+		 */
+		KeyOperationResult encResult = service.encrypt(NAME, version, new KeyOperationParameters()
+			.setAlg(JsonWebKeyEncryptionAlgorithm.A256GCM)
+			.setAad(aad)
+			.setValue(CLEAR_VALUE))
+			.await()
+			.indefinitely();
+
+		assertEquals(CLEAR_VALUE.length, encResult.getValue().length);
+		assertEquals(16, encResult.getTag().length);
+		assertEquals(12, encResult.getIv().length);
+
+		KeyOperationResult decResult = service.decrypt(NAME, version, new KeyOperationParameters()
+			.setAlg(JsonWebKeyEncryptionAlgorithm.A256GCM)
+			.setAad(aad)
+			.setIv(encResult.getIv())
+			.setTag(encResult.getTag())
+			.setValue(encResult.getValue()))
+			.await()
+			.indefinitely();
+
+		assertArrayEquals(CLEAR_VALUE, decResult.getValue());
+
+		service.encrypt(NAME, version, new KeyOperationParameters()
+			.setAlg(JsonWebKeyEncryptionAlgorithm.A128GCM)
+			.setValue(CLEAR_VALUE))
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitFailure()
+			.assertFailedWith(RuntimeException.class);
+	}
+
+	/**
+	 * Test method for
+	 * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveServiceDev#encrypt(java.lang.String, java.lang.String, it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyOperationParameters)}.
+	 */
+	@Test
+	void given_octKey_when_encryptAndDecryptAreInvokedWithKeyWrap_then_getClearValue() {
+		/*
+		 * Setup
+		 */
+		KeyCreateParameters params = new KeyCreateParameters()
+			.setKeyOps(List.of(JsonWebKeyOperation.ENCRYPT, JsonWebKeyOperation.DECRYPT))
+			.setKeySize(128)
+			.setKty(JsonWebKeyType.OCT);
+
+		KeyBundle keyBundle = service.createKey(NAME, params)
+			.await()
+			.indefinitely();
+
+		String version = KeyUtils.getKeyNameVersion(bundle2item(keyBundle))[1];
+		byte[] keyToWrap = new byte[] {
+			0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15
+		};
+
+		/*
+		 * Test
+		 */
+		KeyOperationResult encResult = service.encrypt(NAME, version, new KeyOperationParameters()
+			.setAlg(JsonWebKeyEncryptionAlgorithm.A128KW)
+			.setValue(keyToWrap))
+			.await()
+			.indefinitely();
+
+		assertEquals(keyToWrap.length + 8, encResult.getValue().length);
+
+		KeyOperationResult decResult = service.decrypt(NAME, version, new KeyOperationParameters()
+			.setAlg(JsonWebKeyEncryptionAlgorithm.A128KW)
+			.setValue(encResult.getValue()))
+			.await()
+			.indefinitely();
+
+		assertArrayEquals(keyToWrap, decResult.getValue());
+	}
+
 	/**
 	 * Test method for
 	 * {@link it.pagopa.swclient.mil.azureservices.keyvault.keys.service.AzureKeyVaultKeysReactiveServiceDev#encrypt(java.lang.String, java.lang.String, it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyOperationParameters)}.
@@ -5,13 +5,30 @@
  */
 package it.pagopa.swclient.mil.azureservices.keyvault.keys.service;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.MGF1ParameterSpec;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 
+import javax.crypto.Cipher;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,6 +64,7 @@ import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.KeyVerifyResult;
 import it.pagopa.swclient.mil.azureservices.keyvault.keys.client.AzureKeyVaultKeysReactiveClient;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
 
 /**
  * 
@@ -247,6 +265,37 @@ class AzureKeyVaultKeysReactiveServiceImplTest {
 			.assertItem(keyBundle);
 	}
 
+	/**
+	 * 
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	void given_getKeysRequest_when_keysClientReturns429WithRetryAfter_then_retryAfterIt() {
+		/*
+		 * Setup.
+		 */
+		KeyListResult keyListResult = new KeyListResult()
+			.setValue(List.of());
+		when(keysClient.getKeys("access_token_string"))
+			.thenReturn(
+				Uni.createFrom().failure(new WebApplicationException(Response.status(429)
+					.header("Retry-After", "1")
+					.build())),
+				Uni.createFrom().item(keyListResult));
+
+		/*
+		 * Test.
+		 */
+		long start = System.currentTimeMillis();
+		keysService.getKeys()
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(keyListResult);
+
+		assertTrue(System.currentTimeMillis() - start >= 1000);
+	}
+
 	/**
 	 * 
 	 */
@@ -631,4 +680,161 @@ class AzureKeyVaultKeysReactiveServiceImplTest {
 			.awaitItem()
 			.assertItem(keyBundle);
 	}
+
+	/**
+	 * 
+	 * @param keyOps
+	 * @return
+	 * @throws GeneralSecurityException
+	 */
+	private KeyPair mockGetKey(List<String> keyOps) throws GeneralSecurityException {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		KeyPair keyPair = generator.generateKeyPair();
+		RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+		KeyBundle keyBundle = new KeyBundle()
+			.setAttributes(new KeyAttributes()
+				.setEnabled(Boolean.TRUE)
+				.setNbf(now.getEpochSecond())
+				.setExp(now.plus(5, ChronoUnit.MINUTES).getEpochSecond()))
+			.setKey(new JsonWebKey()
+				.setKid("https://dummy/keys/key_name/key_version")
+				.setKty(JsonWebKeyType.RSA)
+				.setN(publicKey.getModulus().toByteArray())
+				.setE(publicKey.getPublicExponent().toByteArray())
+				.setKeyOps(keyOps));
+		when(keysClient.getKey("access_token_string", "key_name", "key_version"))
+			.thenReturn(Uni.createFrom().item(keyBundle));
+		return keyPair;
+	}
+
+	/**
+	 * 
+	 * @throws GeneralSecurityException
+	 */
+	@Test
+	void given_localCryptoEnabled_when_verifyAndEncryptInvoked_then_executeThemLocally() throws GeneralSecurityException {
+		/*
+		 * Setup
+		 */
+		KeyPair keyPair = mockGetKey(List.of(JsonWebKeyOperation.VERIFY, JsonWebKeyOperation.ENCRYPT));
+
+		byte[] message = "This is a test!".getBytes(StandardCharsets.UTF_8);
+		Signature signer = Signature.getInstance("SHA256withRSA");
+		signer.initSign(keyPair.getPrivate());
+		signer.update(message);
+		KeyVerifyParameters keyVerifyParameters = new KeyVerifyParameters()
+			.setAlg(JsonWebKeySignatureAlgorithm.RS256)
+			.setDigest(MessageDigest.getInstance("SHA-256").digest(message))
+			.setValue(signer.sign());
+
+		KeyVerifyParameters unsupportedVerifyParameters = new KeyVerifyParameters()
+			.setAlg(JsonWebKeySignatureAlgorithm.RSNULL)
+			.setDigest(message)
+			.setValue(new byte[0]);
+		when(keysClient.verify("access_token_string", "key_name", "key_version", unsupportedVerifyParameters))
+			.thenReturn(Uni.createFrom().item(new KeyVerifyResult().setValue(Boolean.FALSE)));
+
+		KeyOperationParameters keyOperationParameters = new KeyOperationParameters()
+			.setAlg(JsonWebKeyEncryptionAlgorithm.RSAOAEP256)
+			.setValue(message);
+
+		AzureKeyVaultKeysReactiveServiceImpl localService = new AzureKeyVaultKeysReactiveServiceImpl(identityService, 60000, 10, 0, 10000);
+		localService.keysClient = keysClient;
+		localService.init();
+
+		/*
+		 * Test
+		 */
+		KeyVerifyResult keyVerifyResult = localService.verify("key_name", "key_version", keyVerifyParameters)
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.getItem();
+		assertTrue(keyVerifyResult.getValue());
+
+		keyVerifyResult = localService.verify("key_name", "key_version", unsupportedVerifyParameters)
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.getItem();
+		assertEquals(Boolean.FALSE, keyVerifyResult.getValue());
+
+		KeyOperationResult keyOperationResult = localService.encrypt("key_name", "key_version", keyOperationParameters)
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.getItem();
+		assertEquals("https://dummy/keys/key_name/key_version", keyOperationResult.getKid());
+
+		Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPPadding");
+		cipher.init(Cipher.DECRYPT_MODE, keyPair.getPrivate(), new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT));
+		assertArrayEquals(message, cipher.doFinal(keyOperationResult.getValue()));
+
+		Mockito.verify(keysClient, times(1)).getKey("access_token_string", "key_name", "key_version");
+		Mockito.verify(keysClient, never()).verify("access_token_string", "key_name", "key_version", keyVerifyParameters);
+		Mockito.verify(keysClient, times(1)).verify("access_token_string", "key_name", "key_version", unsupportedVerifyParameters);
+		Mockito.verify(keysClient, never()).encrypt("access_token_string", "key_name", "key_version", keyOperationParameters);
+	}
+
+	/**
+	 * 
+	 * @throws GeneralSecurityException
+	 */
+	@Test
+	void given_localCryptoEnabledAndOperationNotAllowed_when_encryptInvoked_then_delegateItToKv() throws GeneralSecurityException {
+		/*
+		 * Setup
+		 */
+		mockGetKey(List.of(JsonWebKeyOperation.VERIFY));
+
+		KeyOperationParameters keyOperationParameters = new KeyOperationParameters()
+			.setAlg(JsonWebKeyEncryptionAlgorithm.RSAOAEP256)
+			.setValue(new byte[0]);
+		KeyOperationResult keyOperationResult = new KeyOperationResult()
+			.setValue(new byte[0]);
+		when(keysClient.encrypt("access_token_string", "key_name", "key_version", keyOperationParameters))
+			.thenReturn(Uni.createFrom().item(keyOperationResult));
+		when(keysClient.encrypt("access_token_string", "other_key", "key_version", keyOperationParameters))
+			.thenReturn(Uni.createFrom().item(keyOperationResult));
+		when(keysClient.encrypt("access_token_string", "key_name", null, keyOperationParameters))
+			.thenReturn(Uni.createFrom().item(keyOperationResult));
+		when(keysClient.getKey("access_token_string", "other_key", "key_version"))
+			.thenReturn(Uni.createFrom().failure(new WebApplicationException(404)));
+
+		AzureKeyVaultKeysReactiveServiceImpl localService = new AzureKeyVaultKeysReactiveServiceImpl(identityService, 60000, 10, 0, 10000);
+		localService.keysClient = keysClient;
+		localService.init();
+
+		/*
+		 * Test
+		 */
+		localService.encrypt("key_name", "key_version", keyOperationParameters)
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(keyOperationResult);
+
+		localService.encrypt("other_key", "key_version", keyOperationParameters)
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(keyOperationResult);
+
+		localService.encrypt("other_key", "key_version", keyOperationParameters)
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(keyOperationResult);
+
+		localService.encrypt("key_name", null, keyOperationParameters)
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(keyOperationResult);
+
+		Mockito.verify(keysClient, times(1)).encrypt("access_token_string", "key_name", "key_version", keyOperationParameters);
+		Mockito.verify(keysClient, times(2)).encrypt("access_token_string", "other_key", "key_version", keyOperationParameters);
+		Mockito.verify(keysClient, times(1)).getKey("access_token_string", "other_key", "key_version");
+	}
 }
@@ -0,0 +1,216 @@
+/*
+ * PublicKeyCryptoTest.java
+ *
+ * 17 ott 2026
+ */
+package it.pagopa.swclient.mil.azureservices.keyvault.keys.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.PSSParameterSpec;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.quarkus.test.junit.QuarkusTest;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKey;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyCurveName;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyEncryptionAlgorithm;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeySignatureAlgorithm;
+import it.pagopa.swclient.mil.azureservices.keyvault.keys.bean.JsonWebKeyType;
+
+/**
+ * 
+ * @author Antonio Tarricone
+ */
+@QuarkusTest
+class PublicKeyCryptoTest {
+	/*
+	 * 
+	 */
+	private static final byte[] MESSAGE = "This is a test!".getBytes(StandardCharsets.UTF_8);
+
+	/**
+	 * 
+	 * @param testInfo
+	 */
+	@BeforeEach
+	void init(TestInfo testInfo) {
+		String frame = "*".repeat(testInfo.getDisplayName().length() + 11);
+		System.out.println(frame);
+		System.out.printf("* %s: START *%n", testInfo.getDisplayName());
+		System.out.println(frame);
+	}
+
+	/**
+	 * 
+	 * @return
+	 * @throws GeneralSecurityException
+	 */
+	private KeyPair generateRsa() throws GeneralSecurityException {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		return generator.generateKeyPair();
+	}
+
+	/**
+	 * 
+	 * @param keyPair
+	 * @return
+	 */
+	private PublicKey toPublicKey(KeyPair keyPair) {
+		RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+		return PublicKeyCrypto.toPublicKey(new JsonWebKey()
+			.setKty(JsonWebKeyType.RSA)
+			.setN(publicKey.getModulus().toByteArray())
+			.setE(publicKey.getPublicExponent().toByteArray()));
+	}
+
+	/**
+	 * 
+	 * @throws GeneralSecurityException
+	 */
+	@Test
+	void given_rsaSignature_when_verifyInvoked_then_returnResult() throws GeneralSecurityException {
+		/*
+		 * Setup
+		 */
+		KeyPair keyPair = generateRsa();
+		PublicKey publicKey = toPublicKey(keyPair);
+		byte[] digest = MessageDigest.getInstance("SHA-256").digest(MESSAGE);
+
+		Signature signer = Signature.getInstance("SHA256withRSA");
+		signer.initSign(keyPair.getPrivate());
+		signer.update(MESSAGE);
+		byte[] signature = signer.sign();
+
+		/*
+		 * Test
+		 */
+		assertEquals(Boolean.TRUE, PublicKeyCrypto.verify(publicKey, JsonWebKeySignatureAlgorithm.RS256, digest, signature));
+		digest[0] ^= 1;
+		assertEquals(Boolean.FALSE, PublicKeyCrypto.verify(publicKey, JsonWebKeySignatureAlgorithm.RS256, digest, signature));
+		assertNull(PublicKeyCrypto.verify(publicKey, JsonWebKeySignatureAlgorithm.RS384, digest, signature));
+		assertNull(PublicKeyCrypto.verify(publicKey, JsonWebKeySignatureAlgorithm.RSNULL, digest, signature));
+	}
+
+	/**
+	 * 
+	 * @throws GeneralSecurityException
+	 */
+	@Test
+	void given_rsaPssSignature_when_verifyInvoked_then_returnNull() throws GeneralSecurityException {
+		/*
+		 * Setup
+		 */
+		KeyPair keyPair = generateRsa();
+		PublicKey publicKey = toPublicKey(keyPair);
+		byte[] digest = MessageDigest.getInstance("SHA-384").digest(MESSAGE);
+
+		Signature signer = Signature.getInstance("RSASSA-PSS");
+		signer.setParameter(new PSSParameterSpec("SHA-384", "MGF1", MGF1ParameterSpec.SHA384, 48, 1));
+		signer.initSign(keyPair.getPrivate());
+		signer.update(MESSAGE);
+		byte[] signature = signer.sign();
+
+		/*
+		 * Test
+		 */
+		assertNull(PublicKeyCrypto.verify(publicKey, JsonWebKeySignatureAlgorithm.PS256, digest, signature));
+		assertNull(PublicKeyCrypto.verify(publicKey, JsonWebKeySignatureAlgorithm.PS384, digest, signature));
+		assertNull(PublicKeyCrypto.verify(publicKey, JsonWebKeySignatureAlgorithm.PS512, digest, signature));
+	}
+
+	/**
+	 * 
+	 * @throws GeneralSecurityException
+	 */
+	@Test
+	void given_ecSignature_when_verifyInvoked_then_returnResult() throws GeneralSecurityException {
+		/*
+		 * Setup
+		 */
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+		generator.initialize(new ECGenParameterSpec("secp256r1"));
+		KeyPair keyPair = generator.generateKeyPair();
+		ECPublicKey ecPublicKey = (ECPublicKey) keyPair.getPublic();
+		PublicKey publicKey = PublicKeyCrypto.toPublicKey(new JsonWebKey()
+			.setKty(JsonWebKeyType.EC)
+			.setCrv(JsonWebKeyCurveName.P256)
+			.setX(ecPublicKey.getW().getAffineX().toByteArray())
+			.setY(ecPublicKey.getW().getAffineY().toByteArray()));
+		byte[] digest = MessageDigest.getInstance("SHA-256").digest(MESSAGE);
+
+		Signature signer = Signature.getInstance("SHA256withECDSAinP1363Format");
+		signer.initSign(keyPair.getPrivate());
+		signer.update(MESSAGE);
+		byte[] signature = signer.sign();
+
+		/*
+		 * Test
+		 */
+		assertEquals(Boolean.TRUE, PublicKeyCrypto.verify(publicKey, JsonWebKeySignatureAlgorithm.ES256, digest, signature));
+		assertEquals(Boolean.FALSE, PublicKeyCrypto.verify(publicKey, JsonWebKeySignatureAlgorithm.ES256, digest, new byte[64]));
+		assertNull(PublicKeyCrypto.verify(publicKey, JsonWebKeySignatureAlgorithm.ES384, digest, signature));
+		assertNull(PublicKeyCrypto.verify(publicKey, JsonWebKeySignatureAlgorithm.RS256, digest, signature));
+		assertNull(PublicKeyCrypto.encrypt(publicKey, JsonWebKeyEncryptionAlgorithm.RSAOAEP256, MESSAGE));
+	}
+
+	/**
+	 * 
+	 * @throws GeneralSecurityException
+	 */
+	@Test
+	void given_rsaKey_when_encryptInvoked_then_returnDecryptableData() throws GeneralSecurityException {
+		/*
+		 * Setup
+		 */
+		KeyPair keyPair = generateRsa();
+		PublicKey publicKey = toPublicKey(keyPair);
+
+		/*
+		 * Test
+		 */
+		Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPPadding");
+		cipher.init(Cipher.DECRYPT_MODE, keyPair.getPrivate(), new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT));
+		assertArrayEquals(MESSAGE, cipher.doFinal(PublicKeyCrypto.encrypt(publicKey, JsonWebKeyEncryptionAlgorithm.RSAOAEP256, MESSAGE)));
+
+		cipher = Cipher.getInstance("RSA/ECB/OAEPWithSHA-1AndMGF1Padding");
+		cipher.init(Cipher.DECRYPT_MODE, keyPair.getPrivate());
+		assertArrayEquals(MESSAGE, cipher.doFinal(PublicKeyCrypto.encrypt(publicKey, JsonWebKeyEncryptionAlgorithm.RSAOAEP, MESSAGE)));
+
+		cipher = Cipher.getInstance("RSA/ECB/PKCS1Padding");
+		cipher.init(Cipher.DECRYPT_MODE, keyPair.getPrivate());
+		assertArrayEquals(MESSAGE, cipher.doFinal(PublicKeyCrypto.encrypt(publicKey, JsonWebKeyEncryptionAlgorithm.RSA1_5, MESSAGE)));
+
+		assertNull(PublicKeyCrypto.encrypt(publicKey, "A256GCM", MESSAGE));
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_unsupportedKey_when_toPublicKeyInvoked_then_returnNull() {
+		assertNull(PublicKeyCrypto.toPublicKey(new JsonWebKey().setKty(JsonWebKeyType.OCT)));
+		assertNull(PublicKeyCrypto.toPublicKey(new JsonWebKey().setKty(JsonWebKeyType.EC).setCrv(JsonWebKeyCurveName.P256K)));
+		assertNull(PublicKeyCrypto.toPublicKey(new JsonWebKey().setKty(JsonWebKeyType.RSA)));
+	}
+}
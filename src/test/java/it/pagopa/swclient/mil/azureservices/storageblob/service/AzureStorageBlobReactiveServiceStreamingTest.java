@@ -0,0 +1,176 @@
+/*
+ * AzureStorageBlobReactiveServiceStreamingTest.java
+ *
+ * 17 ott 2026
+ */
+package it.pagopa.swclient.mil.azureservices.storageblob.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import it.pagopa.swclient.mil.azureservices.identity.bean.AccessToken;
+import it.pagopa.swclient.mil.azureservices.identity.bean.Scope;
+import it.pagopa.swclient.mil.azureservices.identity.service.AzureIdentityReactiveService;
+import it.pagopa.swclient.mil.azureservices.storageblob.client.AzureStorageBlobReactiveClient;
+import jakarta.inject.Inject;
+
+/**
+ * <p>
+ * Streams a blob from a local HTTP server which, as Azure Storage Blob, returns bodies with
+ * {@code Content-Length} instead of chunked ones.
+ * </p>
+ * 
+ * @author Antonio Tarricone
+ */
+@QuarkusTest
+class AzureStorageBlobReactiveServiceStreamingTest {
+	/*
+	 * 
+	 */
+	private static final byte[] BLOB = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+	/*
+	 * 
+	 */
+	@InjectMock
+	AzureIdentityReactiveService identityService;
+
+	/*
+	 * 
+	 */
+	@Inject
+	Vertx vertx;
+
+	/*
+	 * 
+	 */
+	private HttpServer server;
+
+	/*
+	 * 
+	 */
+	private List<String> ranges;
+
+	/**
+	 * 
+	 * @param testInfo
+	 * @throws Exception
+	 */
+	@BeforeEach
+	void init(TestInfo testInfo) throws Exception {
+		String frame = "*".repeat(testInfo.getDisplayName().length() + 11);
+		System.out.println(frame);
+		System.out.printf("* %s: START *%n", testInfo.getDisplayName());
+		System.out.println(frame);
+		AccessToken accessToken = new AccessToken()
+			.setExpiresOn(Instant.now().plus(5, ChronoUnit.MINUTES).getEpochSecond())
+			.setValue("access_token_string");
+		when(identityService.getAccessToken(Scope.STORAGE))
+			.thenReturn(Uni.createFrom().item(accessToken));
+		ranges = new CopyOnWriteArrayList<>();
+		server = vertx.createHttpServer()
+			.requestHandler(this::serveBlob)
+			.listen(0)
+			.toCompletionStage()
+			.toCompletableFuture()
+			.get(10, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * 
+	 * @throws Exception
+	 */
+	@AfterEach
+	void close() throws Exception {
+		server.close()
+			.toCompletionStage()
+			.toCompletableFuture()
+			.get(10, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * <p>
+	 * Serves {@link #BLOB} or a range of it, always with {@code Content-Length}.
+	 * </p>
+	 * 
+	 * @param request
+	 */
+	private void serveBlob(HttpServerRequest request) {
+		int first = 0;
+		int last = BLOB.length - 1;
+		int status = 200;
+		String range = request.getHeader("x-ms-range");
+		ranges.add(String.valueOf(range));
+		if (range != null) {
+			String[] bounds = range.substring("bytes=".length()).split("-");
+			first = Integer.parseInt(bounds[0]);
+			last = Math.min(Integer.parseInt(bounds[1]), BLOB.length - 1);
+			status = 206;
+			request.response()
+				.putHeader("Content-Range", String.format("bytes %d-%d/%d", first, last, BLOB.length));
+		}
+
+		request.response()
+			.setStatusCode(status)
+			.putHeader("Content-Type", "application/octet-stream")
+			.putHeader("ETag", "\"etag\"")
+			.end(Buffer.buffer(BLOB).getBuffer(first, last + 1));
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_blobWithContentLength_when_streamBlobInvoked_then_emitMoreThanOneChunk() {
+		/*
+		 * Setup.
+		 */
+		AzureStorageBlobReactiveService localService = new AzureStorageBlobReactiveService(identityService);
+		localService.blobClient = QuarkusRestClientBuilder.newBuilder()
+			.baseUri(URI.create("http://localhost:" + server.actualPort()))
+			.build(AzureStorageBlobReactiveClient.class);
+		localService.downloadBlockSize = 4;
+		localService.init();
+
+		/*
+		 * Test.
+		 */
+		List<byte[]> chunks = localService.streamBlob("container", "file_name")
+			.subscribe()
+			.withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+			.awaitCompletion()
+			.getItems();
+
+		assertTrue(chunks.size() > 1);
+
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		chunks.forEach(content::writeBytes);
+		assertEquals(new String(BLOB, StandardCharsets.UTF_8), content.toString(StandardCharsets.UTF_8));
+
+		assertEquals(List.of("bytes=0-3", "bytes=4-7", "bytes=8-9"), ranges);
+	}
+}
@@ -5,20 +5,40 @@
  */
 package it.pagopa.swclient.mil.azureservices.storageblob.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import it.pagopa.swclient.mil.azureservices.identity.bean.AccessToken;
 import it.pagopa.swclient.mil.azureservices.identity.bean.Scope;
@@ -34,6 +54,11 @@ import jakarta.ws.rs.core.Response;
  */
 @QuarkusTest
 class AzureStorageBlobReactiveServiceTest {
+	/*
+	 * 
+	 */
+	private static final String BLOCK_LIST = "<?xml version=\"1.0\" encoding=\"utf-8\"?><BlockList><Latest>MDAwMDAwMDAwMA==</Latest><Latest>MDAwMDAwMDAwMQ==</Latest><Latest>MDAwMDAwMDAwMg==</Latest></BlockList>";
+
 	/*
 	 * 
 	 */
@@ -87,6 +112,18 @@ class AzureStorageBlobReactiveServiceTest {
 			.thenReturn(Uni.createFrom().item(accessToken));
 	}
 
+	/**
+	 * 
+	 * @param dir
+	 * @param file
+	 * @throws IOException
+	 */
+	private static void assertOnlyFile(Path dir, Path file) throws IOException {
+		try (Stream<Path> files = Files.list(dir)) {
+			assertEquals(List.of(file), files.toList());
+		}
+	}
+
 	/**
 	 * 
 	 */
@@ -135,6 +172,30 @@ class AzureStorageBlobReactiveServiceTest {
 			.assertItem(response);
 	}
 
+	/**
+	 * 
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	void given_getBlobRequest_when_blobClientReturns503_then_retry() {
+		/*
+		 * Setup.
+		 */
+		when(blobClient.getBlob("access_token_string", "segment_1", "segment_2", "segment_3", "file_name"))
+			.thenReturn(
+				Uni.createFrom().failure(new WebApplicationException(503)),
+				Uni.createFrom().item(response));
+
+		/*
+		 * Test.
+		 */
+		blobService.getBlob("segment_1", "segment_2", "segment_3", "file_name")
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(response);
+	}
+
 	/**
 	 * 
 	 */
@@ -260,4 +321,588 @@ class AzureStorageBlobReactiveServiceTest {
 			.awaitItem()
 			.assertItem(response);
 	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_streamBlobRequest_when_blobClientReturnsRanges_then_emitThemOnDemand() {
+		/*
+		 * Setup.
+		 */
+		byte[] block1 = "0123".getBytes(StandardCharsets.UTF_8);
+		byte[] block2 = "4567".getBytes(StandardCharsets.UTF_8);
+		byte[] block3 = "89".getBytes(StandardCharsets.UTF_8);
+		when(blobClient.getBlobRange("access_token_string", "bytes=0-3", null, "segment_1", "file_name"))
+			.thenReturn(Uni.createFrom().item(Response.status(206).entity(block1).header("Content-Range", "bytes 0-3/10").header("ETag", "\"etag\"").build()));
+		when(blobClient.getBlobRange("access_token_string", "bytes=4-7", "\"etag\"", "segment_1", "file_name"))
+			.thenReturn(Uni.createFrom().item(Response.status(206).entity(block2).header("Content-Range", "bytes 4-7/10").build()));
+		when(blobClient.getBlobRange("access_token_string", "bytes=8-9", "\"etag\"", "segment_1", "file_name"))
+			.thenReturn(Uni.createFrom().item(Response.status(206).entity(block3).header("Content-Range", "bytes 8-9/10").build()));
+
+		AzureStorageBlobReactiveService localService = new AzureStorageBlobReactiveService(identityService);
+		localService.blobClient = blobClient;
+		localService.downloadBlockSize = 4;
+		localService.init();
+
+		/*
+		 * Test.
+		 */
+		AssertSubscriber<byte[]> subscriber = localService.streamBlob("segment_1", "file_name")
+			.subscribe()
+			.withSubscriber(AssertSubscriber.create(1))
+			.awaitItems(1)
+			.assertItems(block1);
+
+		verify(blobClient, never()).getBlobRange("access_token_string", "bytes=4-7", "\"etag\"", "segment_1", "file_name");
+
+		subscriber.request(2)
+			.awaitCompletion()
+			.assertItems(block1, block2, block3);
+	}
+
+	/**
+	 * 
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	void given_streamBlobRequest_when_blobClientReturns401_then_getNewAccessTokenAndRetry() {
+		/*
+		 * Setup.
+		 */
+		byte[] block = "block".getBytes(StandardCharsets.UTF_8);
+		when(blobClient.getBlobRange("access_token_string", "bytes=0-4194303", null, "file_name"))
+			.thenReturn(
+				Uni.createFrom().failure(new WebApplicationException(401)),
+				Uni.createFrom().item(Response.status(206).entity(block).header("Content-Range", "bytes 0-4/5").build()));
+
+		/*
+		 * Test.
+		 */
+		blobService.streamBlob("file_name")
+			.subscribe()
+			.withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+			.awaitCompletion()
+			.assertItems(block);
+	}
+
+	/**
+	 * 
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	void given_streamBlobRequest_when_blobClientReturns503_then_retryTheRangeOnly() {
+		/*
+		 * Setup.
+		 */
+		byte[] block1 = "0123".getBytes(StandardCharsets.UTF_8);
+		byte[] block2 = "45".getBytes(StandardCharsets.UTF_8);
+		when(blobClient.getBlobRange("access_token_string", "bytes=0-3", null, "file_name"))
+			.thenReturn(Uni.createFrom().item(Response.status(206).entity(block1).header("Content-Range", "bytes 0-3/6").header("ETag", "\"etag\"").build()));
+		when(blobClient.getBlobRange("access_token_string", "bytes=4-5", "\"etag\"", "file_name"))
+			.thenReturn(
+				Uni.createFrom().failure(new WebApplicationException(503)),
+				Uni.createFrom().item(Response.status(206).entity(block2).header("Content-Range", "bytes 4-5/6").build()));
+
+		AzureStorageBlobReactiveService localService = new AzureStorageBlobReactiveService(identityService);
+		localService.blobClient = blobClient;
+		localService.downloadBlockSize = 4;
+		localService.init();
+
+		/*
+		 * Test.
+		 */
+		localService.streamBlob("file_name")
+			.subscribe()
+			.withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+			.awaitCompletion()
+			.assertItems(block1, block2);
+
+		verify(blobClient, times(1)).getBlobRange("access_token_string", "bytes=0-3", null, "file_name");
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_streamBlobRequest_when_blobIsEmpty_then_emitNothing() {
+		/*
+		 * Setup.
+		 */
+		when(blobClient.getBlobRange("access_token_string", "bytes=0-4194303", null, "file_name"))
+			.thenReturn(Uni.createFrom().failure(new WebApplicationException(416)));
+
+		/*
+		 * Test.
+		 */
+		blobService.streamBlob("file_name")
+			.subscribe()
+			.withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+			.awaitCompletion()
+			.assertHasNotReceivedAnyItem();
+	}
+
+	/**
+	 * 
+	 * @param tempDir
+	 * @throws IOException
+	 */
+	@Test
+	void given_downloadRequest_when_blobClientReturnsRanges_then_writeThemAtTheirOffsets(@TempDir Path tempDir) throws IOException {
+		/*
+		 * Setup.
+		 */
+		when(blobClient.getBlobRange("access_token_string", "bytes=0-3", null, "segment_1", "file_name"))
+			.thenReturn(Uni.createFrom().item(Response.status(206).entity("0123".getBytes(StandardCharsets.UTF_8)).header("Content-Range", "bytes 0-3/10").header("ETag", "\"etag\"").build()));
+		when(blobClient.getBlobRange("access_token_string", "bytes=4-7", "\"etag\"", "segment_1", "file_name"))
+			.thenReturn(Uni.createFrom().item(Response.status(206).entity("4567".getBytes(StandardCharsets.UTF_8)).header("Content-Range", "bytes 4-7/10").build()));
+		when(blobClient.getBlobRange("access_token_string", "bytes=8-9", "\"etag\"", "segment_1", "file_name"))
+			.thenReturn(Uni.createFrom().item(Response.status(206).entity("89".getBytes(StandardCharsets.UTF_8)).header("Content-Range", "bytes 8-9/10").build()));
+
+		AzureStorageBlobReactiveService localService = new AzureStorageBlobReactiveService(identityService);
+		localService.blobClient = blobClient;
+		localService.downloadBlockSize = 4;
+		localService.downloadConcurrency = 2;
+		localService.init();
+
+		Path file = tempDir.resolve("file_name");
+
+		/*
+		 * Test.
+		 */
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			localService.download(channel, "segment_1", "file_name")
+				.subscribe()
+				.withSubscriber(UniAssertSubscriber.create())
+				.awaitItem()
+				.assertItem(10L);
+		}
+
+		assertEquals("0123456789", Files.readString(file));
+	}
+
+	/**
+	 * 
+	 * @param tempDir
+	 * @throws IOException
+	 */
+	@Test
+	void given_downloadRequest_when_blobIsModifiedMeanwhile_then_getFailureWithoutRetrying(@TempDir Path tempDir) throws IOException {
+		/*
+		 * Setup.
+		 */
+		when(blobClient.getBlobRange("access_token_string", "bytes=0-3", null, "file_name"))
+			.thenReturn(Uni.createFrom().item(Response.status(206).entity("0123".getBytes(StandardCharsets.UTF_8)).header("Content-Range", "bytes 0-3/8").header("ETag", "\"etag\"").build()));
+		when(blobClient.getBlobRange("access_token_string", "bytes=4-7", "\"etag\"", "file_name"))
+			.thenReturn(Uni.createFrom().failure(new WebApplicationException(412)));
+
+		AzureStorageBlobReactiveService localService = new AzureStorageBlobReactiveService(identityService);
+		localService.blobClient = blobClient;
+		localService.downloadBlockSize = 4;
+		localService.init();
+
+		Path file = tempDir.resolve("file_name");
+
+		/*
+		 * Test.
+		 */
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			WebApplicationException failure = (WebApplicationException) localService.download(channel, "file_name")
+				.subscribe()
+				.withSubscriber(UniAssertSubscriber.create())
+				.awaitFailure()
+				.getFailure();
+			assertEquals(412, failure.getResponse().getStatus());
+		}
+
+		verify(blobClient, times(1)).getBlobRange("access_token_string", "bytes=4-7", "\"etag\"", "file_name");
+	}
+
+	/**
+	 * 
+	 * @param tempDir
+	 * @throws IOException
+	 */
+	@Test
+	void given_downloadRequest_when_blobIsEmpty_then_writeNothing(@TempDir Path tempDir) throws IOException {
+		/*
+		 * Setup.
+		 */
+		when(blobClient.getBlobRange("access_token_string", "bytes=0-4194303", null, "file_name"))
+			.thenReturn(Uni.createFrom().failure(new WebApplicationException(416)));
+
+		Path file = tempDir.resolve("file_name");
+
+		/*
+		 * Test.
+		 */
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			blobService.download(channel, "file_name")
+				.subscribe()
+				.withSubscriber(UniAssertSubscriber.create())
+				.awaitItem()
+				.assertItem(0L);
+		}
+
+		assertEquals(0, Files.size(file));
+	}
+
+	/**
+	 * 
+	 * @param tempDir
+	 * @throws IOException
+	 */
+	@Test
+	void given_downloadToFileRequest_when_blobClientReturnsRanges_then_writeFile(@TempDir Path tempDir) throws IOException {
+		/*
+		 * Setup.
+		 */
+		when(blobClient.getBlobRange("access_token_string", "bytes=0-5", null, "file_name"))
+			.thenReturn(Uni.createFrom().item(Response.status(206).entity("012345".getBytes(StandardCharsets.UTF_8)).header("Content-Range", "bytes 0-5/8").header("ETag", "\"etag\"").build()));
+		when(blobClient.getBlobRange("access_token_string", "bytes=6-7", "\"etag\"", "file_name"))
+			.thenReturn(Uni.createFrom().item(Response.status(206).entity("67".getBytes(StandardCharsets.UTF_8)).header("Content-Range", "bytes 6-7/8").build()));
+
+		AzureStorageBlobReactiveService localService = new AzureStorageBlobReactiveService(identityService);
+		localService.blobClient = blobClient;
+		localService.downloadBlockSize = 6;
+		localService.init();
+
+		Path file = tempDir.resolve("file_name");
+		Files.writeString(file, "old content");
+
+		/*
+		 * Test.
+		 */
+		localService.downloadToFile(file, "file_name")
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(8L);
+
+		assertEquals("01234567", Files.readString(file));
+		assertOnlyFile(tempDir, file);
+	}
+
+	/**
+	 * 
+	 * @param tempDir
+	 * @throws IOException
+	 */
+	@Test
+	void given_concurrentDownloadToFileRequests_when_blobClientReturnsRanges_then_writeFile(@TempDir Path tempDir) throws IOException {
+		/*
+		 * Setup.
+		 */
+		when(blobClient.getBlobRange("access_token_string", "bytes=0-5", null, "file_name"))
+			.thenAnswer(i -> Uni.createFrom().item(Response.status(206).entity("012345".getBytes(StandardCharsets.UTF_8)).header("Content-Range", "bytes 0-5/8").header("ETag", "\"etag\"").build()));
+		when(blobClient.getBlobRange("access_token_string", "bytes=6-7", "\"etag\"", "file_name"))
+			.thenAnswer(i -> Uni.createFrom().item(Response.status(206).entity("67".getBytes(StandardCharsets.UTF_8)).header("Content-Range", "bytes 6-7/8").build()));
+
+		AzureStorageBlobReactiveService localService = new AzureStorageBlobReactiveService(identityService);
+		localService.blobClient = blobClient;
+		localService.downloadBlockSize = 6;
+		localService.init();
+
+		Path file = tempDir.resolve("file_name");
+
+		/*
+		 * Test.
+		 */
+		Uni.combine()
+			.all()
+			.unis(localService.downloadToFile(file, "file_name"), localService.downloadToFile(file, "file_name"))
+			.asTuple()
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem();
+
+		assertEquals("01234567", Files.readString(file));
+		assertOnlyFile(tempDir, file);
+	}
+
+	/**
+	 * 
+	 * @param tempDir
+	 * @throws IOException
+	 */
+	@Test
+	void given_downloadToFileRequest_when_blobClientReturnsFailure_then_keepOldFile(@TempDir Path tempDir) throws IOException {
+		/*
+		 * Setup.
+		 */
+		when(blobClient.getBlobRange("access_token_string", "bytes=0-4194303", null, "file_name"))
+			.thenReturn(Uni.createFrom().failure(new WebApplicationException(404)));
+
+		Path file = tempDir.resolve("file_name");
+		Files.writeString(file, "old content");
+
+		/*
+		 * Test.
+		 */
+		blobService.downloadToFile(file, "file_name")
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitFailure()
+			.assertFailedWith(WebApplicationException.class);
+
+		assertEquals("old content", Files.readString(file));
+		assertOnlyFile(tempDir, file);
+	}
+
+	/**
+	 * 
+	 * @param tempDir
+	 * @throws IOException
+	 */
+	@Test
+	void given_downloadToFileRequest_when_blobIsModifiedMeanwhile_then_keepOldFile(@TempDir Path tempDir) throws IOException {
+		/*
+		 * Setup.
+		 */
+		when(blobClient.getBlobRange("access_token_string", "bytes=0-5", null, "file_name"))
+			.thenReturn(Uni.createFrom().item(Response.status(206).entity("012345".getBytes(StandardCharsets.UTF_8)).header("Content-Range", "bytes 0-5/8").header("ETag", "\"etag\"").build()));
+		when(blobClient.getBlobRange("access_token_string", "bytes=6-7", "\"etag\"", "file_name"))
+			.thenReturn(Uni.createFrom().failure(new WebApplicationException(412)));
+
+		AzureStorageBlobReactiveService localService = new AzureStorageBlobReactiveService(identityService);
+		localService.blobClient = blobClient;
+		localService.downloadBlockSize = 6;
+		localService.init();
+
+		Path file = tempDir.resolve("file_name");
+		Files.writeString(file, "old content");
+
+		/*
+		 * Test.
+		 */
+		localService.downloadToFile(file, "file_name")
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitFailure()
+			.assertFailedWith(WebApplicationException.class);
+
+		assertEquals("old content", Files.readString(file));
+		assertOnlyFile(tempDir, file);
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_cachedBlob_when_blobClientReturns304_then_returnCachedCopy() {
+		/*
+		 * Setup.
+		 */
+		byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+		when(blobClient.getBlobIfModified("access_token_string", null, null, "segment_1", "file_name"))
+			.thenReturn(Uni.createFrom().item(Response.ok(content)
+				.header("ETag", "\"etag\"")
+				.header("Last-Modified", "Sat, 17 Oct 2026 10:00:00 GMT")
+				.build()));
+		Response notModified = Mockito.mock(Response.class);
+		when(notModified.getStatus())
+			.thenReturn(304);
+		when(blobClient.getBlobIfModified("access_token_string", "\"etag\"", "Sat, 17 Oct 2026 10:00:00 GMT", "segment_1", "file_name"))
+			.thenReturn(Uni.createFrom().item(notModified));
+
+		AzureStorageBlobReactiveService localService = new AzureStorageBlobReactiveService(identityService);
+		localService.blobClient = blobClient;
+		localService.cacheTtl = 60000;
+		localService.init();
+
+		/*
+		 * Test.
+		 */
+		localService.getCachedBlob("segment_1", "file_name")
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(content);
+
+		localService.getCachedBlob("segment_1", "file_name")
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(content);
+
+		verify(blobClient).getBlobIfModified("access_token_string", "\"etag\"", "Sat, 17 Oct 2026 10:00:00 GMT", "segment_1", "file_name");
+		verify(notModified).close();
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_blobLargerThanMaxBlobSize_when_getCachedBlobIsInvoked_then_dontCacheIt() {
+		/*
+		 * Setup.
+		 */
+		byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+		when(blobClient.getBlobIfModified("access_token_string", null, null, "file_name"))
+			.thenAnswer(i -> Uni.createFrom().item(Response.ok(content)
+				.header("ETag", "\"etag\"")
+				.build()));
+
+		AzureStorageBlobReactiveService localService = new AzureStorageBlobReactiveService(identityService);
+		localService.blobClient = blobClient;
+		localService.cacheTtl = 60000;
+		localService.cacheMaxBlobSize = content.length - 1;
+		localService.init();
+
+		/*
+		 * Test.
+		 */
+		for (int i = 0; i < 2; i++) {
+			localService.getCachedBlob("file_name")
+				.subscribe()
+				.withSubscriber(UniAssertSubscriber.create())
+				.awaitItem()
+				.assertItem(content);
+		}
+
+		verify(blobClient, times(2)).getBlobIfModified("access_token_string", null, null, "file_name");
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_disabledCache_when_getCachedBlobIsInvoked_then_alwaysDownloadBlob() {
+		/*
+		 * Setup.
+		 */
+		byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+		when(blobClient.getBlobIfModified("access_token_string", null, null, "file_name"))
+			.thenReturn(Uni.createFrom().item(Response.ok(content)
+				.header("ETag", "\"etag\"")
+				.build()));
+
+		/*
+		 * Test.
+		 */
+		blobService.getCachedBlob("file_name")
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(content);
+
+		blobService.getCachedBlob("file_name")
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(content);
+
+		verify(blobClient, times(2)).getBlobIfModified("access_token_string", null, null, "file_name");
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_putBlobRequest_when_blobClientReturns201_then_returnIt() {
+		/*
+		 * Setup.
+		 */
+		byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+		Response created = Response.status(201).build();
+		when(blobClient.putBlob("access_token_string", content, "segment_1", "file_name"))
+			.thenReturn(Uni.createFrom().item(created));
+
+		/*
+		 * Test.
+		 */
+		blobService.putBlob(content, "segment_1", "file_name")
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(created);
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_uploadRequest_when_blobClientAcceptsBlocks_then_commitThemInOrder() {
+		/*
+		 * Setup.
+		 */
+		when(blobClient.putBlock(eq("access_token_string"), anyString(), any(byte[].class), eq("file_name")))
+			.thenReturn(Uni.createFrom().item(Response.status(201).build()));
+		when(blobClient.putBlockList(eq("access_token_string"), anyString(), eq("file_name")))
+			.thenReturn(Uni.createFrom().item(Response.status(201).build()));
+
+		AzureStorageBlobReactiveService localService = new AzureStorageBlobReactiveService(identityService);
+		localService.blobClient = blobClient;
+		localService.uploadBlockSize = 4;
+		localService.uploadConcurrency = 2;
+		localService.init();
+
+		/*
+		 * Test.
+		 */
+		localService.upload(Multi.createFrom().items("01234".getBytes(StandardCharsets.UTF_8), "56789".getBytes(StandardCharsets.UTF_8)), "file_name")
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(10L);
+
+		verify(blobClient).putBlock(eq("access_token_string"), eq("MDAwMDAwMDAwMA=="), aryEq("0123".getBytes(StandardCharsets.UTF_8)), eq("file_name"));
+		verify(blobClient).putBlock(eq("access_token_string"), eq("MDAwMDAwMDAwMQ=="), aryEq("4567".getBytes(StandardCharsets.UTF_8)), eq("file_name"));
+		verify(blobClient).putBlock(eq("access_token_string"), eq("MDAwMDAwMDAwMg=="), aryEq("89".getBytes(StandardCharsets.UTF_8)), eq("file_name"));
+		verify(blobClient).putBlockList("access_token_string", BLOCK_LIST, "file_name");
+	}
+
+	/**
+	 * 
+	 * @param tempDir
+	 * @throws IOException
+	 */
+	@Test
+	void given_uploadFileRequest_when_blobClientAcceptsBlocks_then_commitThemInOrder(@TempDir Path tempDir) throws IOException {
+		/*
+		 * Setup.
+		 */
+		when(blobClient.putBlock(eq("access_token_string"), anyString(), any(byte[].class), eq("segment_1"), eq("file_name")))
+			.thenReturn(Uni.createFrom().item(Response.status(201).build()));
+		when(blobClient.putBlockList(eq("access_token_string"), anyString(), eq("segment_1"), eq("file_name")))
+			.thenReturn(Uni.createFrom().item(Response.status(201).build()));
+
+		AzureStorageBlobReactiveService localService = new AzureStorageBlobReactiveService(identityService);
+		localService.blobClient = blobClient;
+		localService.uploadBlockSize = 4;
+		localService.init();
+
+		Path file = tempDir.resolve("file_name");
+		Files.writeString(file, "0123456789");
+
+		/*
+		 * Test.
+		 */
+		localService.uploadFile(file, "segment_1", "file_name")
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem(10L);
+
+		verify(blobClient).putBlock(eq("access_token_string"), eq("MDAwMDAwMDAwMg=="), aryEq("89".getBytes(StandardCharsets.UTF_8)), eq("segment_1"), eq("file_name"));
+		verify(blobClient).putBlockList("access_token_string", BLOCK_LIST, "segment_1", "file_name");
+	}
+
+	/**
+	 * 
+	 * @param tempDir
+	 */
+	@Test
+	void given_uploadFileRequest_when_fileDoesntExist_then_getFailure(@TempDir Path tempDir) {
+		/*
+		 * Test.
+		 */
+		blobService.uploadFile(tempDir.resolve("file_name"), "file_name")
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitFailure()
+			.assertFailedWith(NoSuchFileException.class);
+
+		verify(blobClient, never()).putBlockList(anyString(), anyString(), anyString());
+	}
 }
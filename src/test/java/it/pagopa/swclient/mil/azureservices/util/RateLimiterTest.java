@@ -0,0 +1,90 @@
+/*
+ * RateLimiterTest.java
+ *
+ * 17 ott 2026
+ */
+package it.pagopa.swclient.mil.azureservices.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+/**
+ * 
+ * @author Antonio Tarricone
+ */
+@QuarkusTest
+class RateLimiterTest {
+	/**
+	 * 
+	 * @param testInfo
+	 */
+	@BeforeEach
+	void init(TestInfo testInfo) {
+		String frame = "*".repeat(testInfo.getDisplayName().length() + 11);
+		System.out.println(frame);
+		System.out.printf("* %s: START *%n", testInfo.getDisplayName());
+		System.out.println(frame);
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_burstUnderLimit_when_reserveInvoked_then_doNotWait() {
+		RateLimiter limiter = new RateLimiter(10, 10000);
+		assertTrue(limiter.isEnabled());
+		for (int i = 0; i < 10; i++) {
+			assertEquals(Duration.ZERO, limiter.reserve());
+		}
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_burstOverLimit_when_reserveInvoked_then_waitForSteadyRate() {
+		RateLimiter limiter = new RateLimiter(10, 10000);
+		for (int i = 0; i < 10; i++) {
+			limiter.reserve();
+		}
+
+		Duration first = limiter.reserve();
+		Duration second = limiter.reserve();
+
+		assertTrue(first.toMillis() > 900 && first.toMillis() <= 1000);
+		assertTrue(second.toMillis() > 1900 && second.toMillis() <= 2000);
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_pause_when_reserveInvoked_then_waitForIt() {
+		RateLimiter limiter = new RateLimiter(10, 10000);
+		limiter.pause(Duration.ofSeconds(5));
+
+		Duration wait = limiter.reserve();
+
+		assertTrue(wait.toMillis() > 4900 && wait.toMillis() <= 5000);
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_zeroRequests_when_reserveInvoked_then_doNotWait() {
+		RateLimiter limiter = new RateLimiter(0, 10000);
+		limiter.pause(Duration.ofSeconds(5));
+		assertFalse(limiter.isEnabled());
+		assertEquals(Duration.ZERO, limiter.reserve());
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * RetryPolicyTest.java
+ *
+ * 17 ott 2026
+ */
+package it.pagopa.swclient.mil.azureservices.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.WebApplicationException;
+
+/**
+ *
+ * @author Antonio Tarricone
+ */
+@QuarkusTest
+class RetryPolicyTest {
+	/**
+	 *
+	 * @param testInfo
+	 */
+	@BeforeEach
+	void init(TestInfo testInfo) {
+		String frame = "*".repeat(testInfo.getDisplayName().length() + 11);
+		System.out.println(frame);
+		System.out.printf("* %s: START *%n", testInfo.getDisplayName());
+		System.out.println(frame);
+	}
+
+	/**
+	 *
+	 * @param failures
+	 * @param status
+	 * @param attempts
+	 * @return
+	 */
+	private Uni<String> failing(int failures, int status, AtomicInteger attempts) {
+		return Uni.createFrom().deferred(() -> {
+			if (attempts.incrementAndGet() <= failures) {
+				return Uni.createFrom().failure(new WebApplicationException(status));
+			}
+			return Uni.createFrom().item("result");
+		});
+	}
+
+	/**
+	 *
+	 */
+	@Test
+	void given_transientFailures_when_applyInvoked_then_retryAndGetResult() {
+		RetryPolicy policy = new RetryPolicy(Duration.ofMillis(1), 0.2, 3, 0.2, 100, new RateLimiter(0, 0));
+		AtomicInteger attempts = new AtomicInteger();
+
+		policy.apply(() -> failing(2, 503, attempts), false)
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitItem()
+			.assertItem("result");
+
+		assertEquals(3, attempts.get());
+	}
+
+	/**
+	 *
+	 */
+	@Test
+	void given_serverErrorOnNotIdempotentOperation_when_applyInvoked_then_doNotRetry() {
+		RetryPolicy policy = new RetryPolicy(Duration.ofMillis(1), 0.2, 3, 0.2, 100, new RateLimiter(0, 0));
+		AtomicInteger attempts = new AtomicInteger();
+
+		policy.apply(() -> failing(1, 500, attempts), false)
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitFailure()
+			.assertFailedWith(WebApplicationException.class);
+
+		assertEquals(1, attempts.get());
+	}
+
+	/**
+	 *
+	 */
+	@Test
+	void given_tooManyFailures_when_applyInvoked_then_getFailureAfterMaxRetries() {
+		RetryPolicy policy = new RetryPolicy(Duration.ofMillis(1), 0.2, 3, 0.2, 100, new RateLimiter(0, 0));
+		AtomicInteger attempts = new AtomicInteger();
+
+		policy.apply(() -> failing(10, 500, attempts), true)
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitFailure()
+			.assertFailedWith(WebApplicationException.class);
+
+		assertEquals(4, attempts.get());
+	}
+
+	/**
+	 *
+	 */
+	@Test
+	void given_exhaustedBudget_when_applyInvoked_then_doNotRetry() {
+		RetryPolicy policy = new RetryPolicy(Duration.ofMillis(1), 0.2, 3, 0, 1, new RateLimiter(0, 0));
+		AtomicInteger attempts = new AtomicInteger();
+
+		policy.apply(() -> failing(10, 429, attempts), true)
+			.subscribe()
+			.withSubscriber(UniAssertSubscriber.create())
+			.awaitFailure()
+			.assertFailedWith(WebApplicationException.class);
+
+		assertEquals(2, attempts.get());
+	}
+
+	/**
+	 *
+	 */
+	@Test
+	void given_failures_when_isTransientInvoked_then_getClassification() {
+		assertTrue(RetryPolicy.isTransient(new WebApplicationException(429), false));
+		assertTrue(RetryPolicy.isTransient(new WebApplicationException(503), false));
+		assertTrue(RetryPolicy.isTransient(new ConnectException(), false));
+		assertTrue(RetryPolicy.isTransient(new WebApplicationException(502), true));
+		assertTrue(RetryPolicy.isTransient(new IOException(), true));
+		assertFalse(RetryPolicy.isTransient(new WebApplicationException(502), false));
+		assertFalse(RetryPolicy.isTransient(new IOException(), false));
+		assertFalse(RetryPolicy.isTransient(new WebApplicationException(404), true));
+		assertFalse(RetryPolicy.isTransient(new IllegalStateException(), true));
+		assertTrue(RetryPolicy.isTransient(new ProcessingException(new ConnectException()), true));
+		assertTrue(RetryPolicy.isTransient(new ProcessingException(new ConnectException()), false));
+		assertTrue(RetryPolicy.isTransient(new ProcessingException(new IOException()), true));
+		assertFalse(RetryPolicy.isTransient(new ProcessingException(new IOException()), false));
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * TimedCacheTest.java
+ *
+ * 17 ott 2026
+ */
+package it.pagopa.swclient.mil.azureservices.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+/**
+ * 
+ * @author Antonio Tarricone
+ */
+@QuarkusTest
+class TimedCacheTest {
+	/**
+	 * 
+	 * @param testInfo
+	 */
+	@BeforeEach
+	void init(TestInfo testInfo) {
+		String frame = "*".repeat(testInfo.getDisplayName().length() + 11);
+		System.out.println(frame);
+		System.out.printf("* %s: START *%n", testInfo.getDisplayName());
+		System.out.println(frame);
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_storedValue_when_getInvoked_then_returnIt() {
+		TimedCache<String, String> cache = new TimedCache<>(60000, 10);
+		cache.put("key", "value");
+		assertTrue(cache.isEnabled());
+		assertEquals("value", cache.get("key"));
+		assertNull(cache.get("other_key"));
+	}
+
+	/**
+	 * 
+	 * @throws InterruptedException
+	 */
+	@Test
+	void given_expiredValue_when_getInvoked_then_returnNull() throws InterruptedException {
+		TimedCache<String, String> cache = new TimedCache<>(10, 10);
+		cache.put("key", "value");
+		Thread.sleep(50);
+		assertNull(cache.get("key"));
+		assertEquals(0, cache.size());
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_fullCache_when_putInvoked_then_evictLeastRecentlyUsed() {
+		TimedCache<String, String> cache = new TimedCache<>(60000, 2);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		cache.get("key1");
+		cache.put("key3", "value3");
+		assertEquals(2, cache.size());
+		assertEquals("value1", cache.get("key1"));
+		assertNull(cache.get("key2"));
+		assertEquals("value3", cache.get("key3"));
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_storedValues_when_removeInvoked_then_removeThem() {
+		TimedCache<String, String> cache = new TimedCache<>(60000, 10);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		cache.put("other", "value3");
+
+		cache.remove("key1");
+		assertNull(cache.get("key1"));
+
+		cache.removeIf(key -> key.startsWith("key"));
+		assertNull(cache.get("key2"));
+		assertEquals("value3", cache.get("other"));
+
+		cache.clear();
+		assertEquals(0, cache.size());
+	}
+
+	/**
+	 * 
+	 */
+	@Test
+	void given_zeroTtl_when_putInvoked_then_doNotStore() {
+		TimedCache<String, String> cache = new TimedCache<>(0, 10);
+		cache.put("key", "value");
+		assertFalse(cache.isEnabled());
+		assertNull(cache.get("key"));
+	}
+}